@@ -1,6 +1,7 @@
 plugins {
     id("java")
     id("checkstyle")
+    alias(libs.plugins.jmh)
 }
 
 group = "com.blackberry"
@@ -50,6 +51,13 @@ dependencies {
     testRuntimeOnly(libs.junit.platform.launcher)
 }
 
+jmh {
+    jmhVersion = libs.versions.jmh
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+    humanOutputFile = layout.buildDirectory.file("reports/jmh/human.txt")
+}
+
 tasks.withType<Checkstyle> {
     reports {
         xml.required = false
@@ -0,0 +1,69 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2024 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.model.jose;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detection and extraction of JOSE objects within realistic messages, with and without the shared caches
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JOSEDetectionBenchmark {
+    @Param({"API_BODY", "HTML_PAGE", "WEBSOCKET_FRAME"})
+    public Corpus corpus;
+
+    private String message;
+
+    @Setup
+    public void setup() {
+        message = corpus.text();
+    }
+
+    @Benchmark
+    public List<MutableJOSEObject> extractJOSEObjects() {
+        JOSEObjectFinder.scanCache().clear();
+        JWSFactory.interner().clear();
+        JWEFactory.interner().clear();
+
+        return JOSEObjectFinder.extractJOSEObjects(message);
+    }
+
+    @Benchmark
+    public List<MutableJOSEObject> extractJOSEObjectsCached() {
+        return JOSEObjectFinder.extractJOSEObjects(message);
+    }
+
+    @Benchmark
+    public List<JOSEObjectKind> classifyJOSEObjects() {
+        return JOSEObjectFinder.classifyJOSEObjects(message);
+    }
+
+    @Benchmark
+    public boolean containsJOSEObjects() {
+        return JOSEObjectFinder.containsJOSEObjects(message);
+    }
+}
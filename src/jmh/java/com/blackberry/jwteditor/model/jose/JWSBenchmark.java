@@ -0,0 +1,107 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2024 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.model.jose;
+
+import com.blackberry.jwteditor.exceptions.SigningException;
+import com.blackberry.jwteditor.exceptions.VerificationException;
+import com.blackberry.jwteditor.model.keys.JWKKeyFactory;
+import com.blackberry.jwteditor.model.keys.Key;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.OctetKeyPairGenerator;
+import com.nimbusds.jose.jwk.gen.OctetSequenceKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.util.Base64URL;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.Security;
+import java.text.ParseException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing, signing and verification of JWSs for each supported signing algorithm
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JWSBenchmark {
+    private static final Base64URL HEADER = Base64URL.encode("{\"typ\":\"JWT\",\"kid\":\"benchmark\"}");
+    private static final Base64URL PAYLOAD = Base64URL.encode("{\"sub\":\"1234567890\",\"name\":\"John Doe\",\"iat\":1516239022,\"exp\":1916239022,\"scope\":\"openid profile email\"}");
+
+    @Param({"HS256", "HS384", "HS512", "RS256", "RS512", "PS256", "ES256", "ES384", "ES512", "EdDSA"})
+    public String algorithmName;
+
+    private JWSAlgorithm algorithm;
+    private JWSHeader verificationInfo;
+    private Key key;
+    private JWS jws;
+    private String compactJWS;
+
+    @Setup
+    public void setup() throws Exception {
+        Security.addProvider(new BouncyCastleProvider());
+
+        algorithm = JWSAlgorithm.parse(algorithmName);
+        verificationInfo = new JWSHeader(algorithm);
+        key = JWKKeyFactory.from(generateKey(algorithm));
+        jws = JWSFactory.sign(key, algorithm, HEADER, PAYLOAD);
+        compactJWS = jws.serialize();
+    }
+
+    @Benchmark
+    public JWS parse() throws ParseException {
+        JWSFactory.interner().clear();
+
+        return JWSFactory.parse(compactJWS);
+    }
+
+    @Benchmark
+    public JWS parseInterned() throws ParseException {
+        return JWSFactory.parse(compactJWS);
+    }
+
+    @Benchmark
+    public boolean verify() throws VerificationException {
+        return jws.verify(key, verificationInfo);
+    }
+
+    @Benchmark
+    public JWS sign() throws SigningException {
+        return JWSFactory.sign(key, algorithm, HEADER, PAYLOAD);
+    }
+
+    private static JWK generateKey(JWSAlgorithm algorithm) throws Exception {
+        return switch (algorithm.getName()) {
+            case "HS256", "HS384", "HS512" -> new OctetSequenceKeyGenerator(512).generate();
+            case "RS256", "RS512", "PS256" -> new RSAKeyGenerator(2048).generate();
+            case "ES256" -> new ECKeyGenerator(Curve.P_256).generate();
+            case "ES384" -> new ECKeyGenerator(Curve.P_384).generate();
+            case "ES512" -> new ECKeyGenerator(Curve.P_521).generate();
+            case "EdDSA" -> new OctetKeyPairGenerator(Curve.Ed25519).generate();
+            default -> throw new IllegalArgumentException("Unsupported algorithm: " + algorithm);
+        };
+    }
+}
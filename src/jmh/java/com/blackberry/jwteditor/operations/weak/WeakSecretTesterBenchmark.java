@@ -0,0 +1,90 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2024 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.operations.weak;
+
+import com.blackberry.jwteditor.model.jose.JWS;
+import com.blackberry.jwteditor.model.jose.JWSFactory;
+import com.nimbusds.jose.util.Base64URL;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Rate at which candidate secrets are tested against an HMAC signed JWS, reported per candidate
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeakSecretTesterBenchmark {
+    private static final int CANDIDATES = 1024;
+    private static final Base64URL PAYLOAD = Base64URL.encode("{\"sub\":\"1234567890\",\"name\":\"John Doe\",\"iat\":1516239022}");
+
+    @Param({"HS256", "HS384", "HS512"})
+    public String algorithm;
+
+    private WeakSecretTester tester;
+    private byte[] candidates;
+    private int[] offsets;
+
+    @Setup
+    public void setup() throws Exception {
+        Base64URL header = Base64URL.encode("{\"alg\":\"%s\",\"typ\":\"JWT\"}".formatted(algorithm));
+        String signingInput = header + "." + PAYLOAD;
+
+        Mac mac = Mac.getInstance("Hmac" + algorithm.replace("HS", "SHA"));
+        mac.init(new SecretKeySpec("not in the candidates".getBytes(UTF_8), mac.getAlgorithm()));
+        Base64URL signature = Base64URL.encode(mac.doFinal(signingInput.getBytes(US_ASCII)));
+
+        JWS jws = JWSFactory.jwsFromParts(header, PAYLOAD, signature);
+        tester = new WeakSecretTester(jws);
+
+        StringBuilder builder = new StringBuilder();
+        offsets = new int[CANDIDATES + 1];
+
+        for (int i = 0; i < CANDIDATES; i++) {
+            offsets[i] = builder.length();
+            builder.append("password").append(i);
+        }
+
+        offsets[CANDIDATES] = builder.length();
+        candidates = builder.toString().getBytes(UTF_8);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CANDIDATES)
+    public int isSecretCorrect() throws Exception {
+        int found = 0;
+
+        for (int i = 0; i < CANDIDATES; i++) {
+            if (tester.isSecretCorrect(candidates, offsets[i], offsets[i + 1] - offsets[i])) {
+                found++;
+            }
+        }
+
+        return found;
+    }
+}
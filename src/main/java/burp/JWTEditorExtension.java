@@ -7,21 +7,25 @@ import burp.api.montoya.persistence.PersistedObject;
 import burp.api.montoya.persistence.Preferences;
 import burp.api.montoya.proxy.Proxy;
 import burp.api.montoya.ui.UserInterface;
-import burp.api.montoya.utilities.ByteUtils;
 import burp.config.BurpConfig;
 import burp.config.BurpConfigPersistence;
 import burp.intruder.JWSPayloadProcessor;
+import burp.persistence.SearchCheckpointsPersistence;
 import burp.persistence.TokensIdGeneratorPersistence;
 import burp.persistence.TokensModelPersistence;
+import burp.proxy.BackgroundScanner;
 import burp.proxy.ProxyConfig;
 import burp.proxy.ProxyHttpMessageHandler;
 import burp.proxy.ProxyWsMessageHandler;
 import burp.scanner.JWSHeaderInsertionPointProvider;
+import com.blackberry.jwteditor.model.keys.KeyRing;
 import com.blackberry.jwteditor.model.keys.KeysModel;
 import com.blackberry.jwteditor.model.persistence.BurpKeysModelPersistence;
-import com.blackberry.jwteditor.model.persistence.KeysModelPersistence;
+import com.blackberry.jwteditor.model.persistence.WriteBehindKeysModelPersistence;
+import com.blackberry.jwteditor.model.tokens.TokenCapture;
 import com.blackberry.jwteditor.model.tokens.TokenIdGenerator;
 import com.blackberry.jwteditor.model.tokens.TokensModel;
+import com.blackberry.jwteditor.operations.weak.SearchCheckpoints;
 import com.blackberry.jwteditor.utils.Utils;
 import com.blackberry.jwteditor.view.SuiteView;
 import com.blackberry.jwteditor.view.editor.HttpRequestEditorView;
@@ -32,6 +36,7 @@ import com.blackberry.jwteditor.view.hexcodearea.HexCodeAreaFactory;
 import com.blackberry.jwteditor.view.rsta.RstaFactory;
 
 import java.awt.*;
+import java.util.concurrent.ExecutorService;
 
 import static burp.api.montoya.core.BurpSuiteEdition.COMMUNITY_EDITION;
 import static burp.api.montoya.core.BurpSuiteEdition.PROFESSIONAL;
@@ -45,7 +50,7 @@ public class JWTEditorExtension implements BurpExtension {
         api.extension().setName(Utils.getResourceString("tool_name"));
 
         Preferences preferences = api.persistence().preferences();
-        KeysModelPersistence keysModelPersistence = new BurpKeysModelPersistence(preferences);
+        WriteBehindKeysModelPersistence keysModelPersistence = new WriteBehindKeysModelPersistence(new BurpKeysModelPersistence(preferences));
         KeysModel keysModel = keysModelPersistence.loadOrCreateNew();
 
         BurpConfigPersistence burpConfigPersistence = new BurpConfigPersistence(preferences);
@@ -62,10 +67,18 @@ public class JWTEditorExtension implements BurpExtension {
 
         TokensModelPersistence tokensModelPersistence = new TokensModelPersistence(isProVersion, extensionData);
         TokensModel tokensModel = tokensModelPersistence.loadOrCreateNew();
+        tokensModelPersistence.journal(tokensModel);
 
         TokensIdGeneratorPersistence tokensIdGeneratorPersistence = new TokensIdGeneratorPersistence(isProVersion, extensionData);
         TokenIdGenerator tokenIdGenerator = tokensIdGeneratorPersistence.loadOrCreateNew();
 
+        SearchCheckpointsPersistence searchCheckpointsPersistence = new SearchCheckpointsPersistence(isProVersion, extensionData);
+        SearchCheckpoints searchCheckpoints = searchCheckpointsPersistence.loadOrCreateNew();
+        searchCheckpointsPersistence.autoSave(searchCheckpoints);
+
+        ExecutorService verifierExecutor = KeyRing.newVerifierExecutor();
+        BackgroundScanner backgroundScanner = new BackgroundScanner(api.logging());
+
         SuiteView suiteView = new SuiteView(
                 suiteWindow,
                 keysModelPersistence,
@@ -73,7 +86,9 @@ public class JWTEditorExtension implements BurpExtension {
                 tokensModel,
                 rstaFactory,
                 burpConfig,
+                backgroundScanner,
                 userInterface,
+                api.logging(),
                 isProVersion
         );
 
@@ -87,6 +102,8 @@ public class JWTEditorExtension implements BurpExtension {
                         keysModel,
                         tokensModel,
                         tokenIdGenerator,
+                        searchCheckpoints,
+                        verifierExecutor,
                         rstaFactory,
                         api.collaborator().defaultPayloadGenerator(),
                         hexAreaCodeFactory,
@@ -102,6 +119,8 @@ public class JWTEditorExtension implements BurpExtension {
                         keysModel,
                         tokensModel,
                         tokenIdGenerator,
+                        searchCheckpoints,
+                        verifierExecutor,
                         rstaFactory,
                         api.collaborator().defaultPayloadGenerator(),
                         hexAreaCodeFactory,
@@ -117,6 +136,8 @@ public class JWTEditorExtension implements BurpExtension {
                         keysModel,
                         tokensModel,
                         tokenIdGenerator,
+                        searchCheckpoints,
+                        verifierExecutor,
                         rstaFactory,
                         api.collaborator().defaultPayloadGenerator(),
                         hexAreaCodeFactory,
@@ -129,13 +150,14 @@ public class JWTEditorExtension implements BurpExtension {
 
         Proxy proxy = api.proxy();
         ProxyConfig proxyConfig = burpConfig.proxyConfig();
-        ByteUtils byteUtils = api.utilities().byteUtils();
 
-        ProxyHttpMessageHandler proxyHttpMessageHandler = new ProxyHttpMessageHandler(proxyConfig, byteUtils);
+        TokenCapture tokenCapture = new TokenCapture(tokensModel, tokenIdGenerator);
+
+        ProxyHttpMessageHandler proxyHttpMessageHandler = new ProxyHttpMessageHandler(proxyConfig, backgroundScanner, tokenCapture);
         proxy.registerRequestHandler(proxyHttpMessageHandler);
         proxy.registerResponseHandler(proxyHttpMessageHandler);
 
-        ProxyWsMessageHandler proxyWsMessageHandler = new ProxyWsMessageHandler(proxyConfig, byteUtils);
+        ProxyWsMessageHandler proxyWsMessageHandler = new ProxyWsMessageHandler(proxyConfig);
         proxy.registerWebSocketCreationHandler(proxyWebSocketCreation ->
                 proxyWebSocketCreation.proxyWebSocket().registerProxyMessageHandler(proxyWsMessageHandler)
         );
@@ -148,9 +170,14 @@ public class JWTEditorExtension implements BurpExtension {
         }
 
         api.extension().registerUnloadingHandler(() -> {
+            backgroundScanner.shutdown();
+            verifierExecutor.shutdownNow();
+            keysModelPersistence.close();
             burpConfigPersistence.save(burpConfig);
-            tokensModelPersistence.save(tokensModel);
             tokensIdGeneratorPersistence.save(tokenIdGenerator);
+            tokensModelPersistence.flush();
+            searchCheckpointsPersistence.close();
+            searchCheckpointsPersistence.save(searchCheckpoints);
         });
     }
 }
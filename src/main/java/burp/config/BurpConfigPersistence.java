@@ -25,14 +25,23 @@ import burp.proxy.HighlightColor;
 import burp.proxy.ProxyConfig;
 import burp.scanner.ScannerConfig;
 import com.nimbusds.jose.JWSAlgorithm;
+import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class BurpConfigPersistence {
     static final String BURP_SETTINGS_NAME = "com.blackberry.jwteditor.settings";
 
     private static final String PROXY_LISTENER_ENABLED_KEY = "proxy_listener_enabled";
     private static final String PROXY_HISTORY_HIGHLIGHT_COLOR_KEY = "proxy_history_highlight_color";
+    private static final String PROXY_ALLOWED_CONTENT_TYPES_KEY = "proxy_allowed_content_types";
+    private static final String PROXY_DENIED_CONTENT_TYPES_KEY = "proxy_denied_content_types";
+    private static final String PROXY_MAX_BODY_SIZE_KEY = "proxy_max_body_size";
+    private static final String PROXY_SCAN_HEADERS_OF_LARGE_MESSAGES_KEY = "proxy_scan_headers_of_large_messages";
+    private static final String PROXY_CAPTURE_TOKENS_KEY = "proxy_capture_tokens";
     private static final String INTRUDER_FUZZ_PARAMETER_TYPE = "intruder_payload_processor_fuzz_location";
     private static final String INTRUDER_FUZZ_PARAMETER_NAME = "intruder_payload_processor_parameter_name";
     private static final String INTRUDER_FUZZ_RESIGNING = "intruder_payload_processor_resign";
@@ -65,6 +74,26 @@ public class BurpConfigPersistence {
 
                 String highlightColorName = (String) parsedObject.get(PROXY_HISTORY_HIGHLIGHT_COLOR_KEY);
                 proxyConfig.setHighlightColor(HighlightColor.from(highlightColorName));
+
+                if (parsedObject.has(PROXY_ALLOWED_CONTENT_TYPES_KEY) && parsedObject.get(PROXY_ALLOWED_CONTENT_TYPES_KEY) instanceof JSONArray allowedContentTypes) {
+                    proxyConfig.setAllowedContentTypes(strings(allowedContentTypes));
+                }
+
+                if (parsedObject.has(PROXY_DENIED_CONTENT_TYPES_KEY) && parsedObject.get(PROXY_DENIED_CONTENT_TYPES_KEY) instanceof JSONArray deniedContentTypes) {
+                    proxyConfig.setDeniedContentTypes(strings(deniedContentTypes));
+                }
+
+                if (parsedObject.has(PROXY_MAX_BODY_SIZE_KEY) && parsedObject.get(PROXY_MAX_BODY_SIZE_KEY) instanceof Integer maxBodySize) {
+                    proxyConfig.setMaxBodySize(maxBodySize);
+                }
+
+                if (parsedObject.has(PROXY_SCAN_HEADERS_OF_LARGE_MESSAGES_KEY) && parsedObject.get(PROXY_SCAN_HEADERS_OF_LARGE_MESSAGES_KEY) instanceof Boolean scanHeaders) {
+                    proxyConfig.setScanHeadersOfLargeMessages(scanHeaders);
+                }
+
+                if (parsedObject.has(PROXY_CAPTURE_TOKENS_KEY) && parsedObject.get(PROXY_CAPTURE_TOKENS_KEY) instanceof Boolean captureTokens) {
+                    proxyConfig.setCaptureTokens(captureTokens);
+                }
             }
 
             if (parsedObject.has(INTRUDER_FUZZ_PARAMETER_TYPE) && parsedObject.has(INTRUDER_FUZZ_PARAMETER_NAME)) {
@@ -110,6 +139,11 @@ public class BurpConfigPersistence {
 
         burpConfigJson.put(PROXY_LISTENER_ENABLED_KEY, model.proxyConfig().highlightJWT());
         burpConfigJson.put(PROXY_HISTORY_HIGHLIGHT_COLOR_KEY, model.proxyConfig().highlightColor().burpColor);
+        burpConfigJson.put(PROXY_ALLOWED_CONTENT_TYPES_KEY, model.proxyConfig().allowedContentTypes());
+        burpConfigJson.put(PROXY_DENIED_CONTENT_TYPES_KEY, model.proxyConfig().deniedContentTypes());
+        burpConfigJson.put(PROXY_MAX_BODY_SIZE_KEY, model.proxyConfig().maxBodySize());
+        burpConfigJson.put(PROXY_SCAN_HEADERS_OF_LARGE_MESSAGES_KEY, model.proxyConfig().scanHeadersOfLargeMessages());
+        burpConfigJson.put(PROXY_CAPTURE_TOKENS_KEY, model.proxyConfig().captureTokens());
         burpConfigJson.put(INTRUDER_FUZZ_PARAMETER_NAME, model.intruderConfig().fuzzParameter());
         burpConfigJson.put(INTRUDER_FUZZ_PARAMETER_TYPE, model.intruderConfig().fuzzLocation());
         burpConfigJson.put(INTRUDER_FUZZ_RESIGNING, model.intruderConfig().resign());
@@ -124,4 +158,16 @@ public class BurpConfigPersistence {
 
         preferences.setString(BURP_SETTINGS_NAME, burpConfigJson.toString());
     }
+
+    private static List<String> strings(JSONArray array) {
+        List<String> strings = new ArrayList<>();
+
+        for (int i = 0; i < array.length(); i++) {
+            if (array.get(i) instanceof String string) {
+                strings.add(string);
+            }
+        }
+
+        return strings;
+    }
 }
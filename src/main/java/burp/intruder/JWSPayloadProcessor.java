@@ -114,7 +114,7 @@ public class JWSPayloadProcessor implements PayloadProcessor {
                                 ? header
                                 : Base64URL.encode(headerJsonObject.toString());
 
-                        return Optional.of(JWSFactory.sign(key, algorithm, updatedHeader, payload));
+                        return Optional.of(JWSFactory.sign(keysRepository.operationCache(), key, algorithm, updatedHeader, payload));
                     } catch (SigningException ex) {
                         logging.logToError("Failed to sign JWS: " + ex);
                         return Optional.empty();
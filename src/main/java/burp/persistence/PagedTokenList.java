@@ -0,0 +1,104 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package burp.persistence;
+
+import com.blackberry.jwteditor.model.tokens.Token;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+/**
+ * Token list over stored index pages, which are only read when a token on them is first accessed. Tokens added
+ * since loading are held in memory. Loaded pages are kept, so each stored token maps to a single instance.
+ */
+class PagedTokenList extends AbstractList<Token> implements RandomAccess {
+    private final int storedSize;
+    private final int pageSize;
+    private final IntFunction<List<Token>> pageLoader;
+    private final Map<Integer, List<Token>> pages;
+    private final List<Token> tail;
+
+    /**
+     * @param storedSize number of tokens on stored pages
+     * @param pageSize   number of tokens per page
+     * @param pageLoader loads the tokens of a page, which must number pageSize for all but the last page
+     * @param tail       tokens following the stored pages
+     */
+    PagedTokenList(int storedSize, int pageSize, IntFunction<List<Token>> pageLoader, List<Token> tail) {
+        this.storedSize = storedSize;
+        this.pageSize = pageSize;
+        this.pageLoader = pageLoader;
+        this.pages = new HashMap<>();
+        this.tail = new ArrayList<>(tail);
+    }
+
+    @Override
+    public synchronized Token get(int index) {
+        Objects.checkIndex(index, size());
+
+        if (index >= storedSize) {
+            return tail.get(index - storedSize);
+        }
+
+        List<Token> page = pages.computeIfAbsent(index / pageSize, pageLoader::apply);
+
+        return page.get(index % pageSize);
+    }
+
+    @Override
+    public synchronized int size() {
+        return storedSize + tail.size();
+    }
+
+    @Override
+    public synchronized boolean add(Token token) {
+        tail.add(token);
+        modCount++;
+
+        return true;
+    }
+
+    /**
+     * Tokens can only be obtained from loaded pages or the tail, so only those are searched
+     */
+    @Override
+    public synchronized int indexOf(Object object) {
+        for (Map.Entry<Integer, List<Token>> page : pages.entrySet()) {
+            int index = page.getValue().indexOf(object);
+
+            if (index >= 0) {
+                return page.getKey() * pageSize + index;
+            }
+        }
+
+        int index = tail.indexOf(object);
+
+        return index < 0 ? -1 : storedSize + index;
+    }
+
+    synchronized int loadedPages() {
+        return pages.size();
+    }
+}
@@ -0,0 +1,180 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package burp.persistence;
+
+import burp.api.montoya.persistence.PersistedObject;
+import com.blackberry.jwteditor.operations.weak.SearchCheckpoint;
+import com.blackberry.jwteditor.operations.weak.SearchCheckpoint.WordlistType;
+import com.blackberry.jwteditor.operations.weak.SearchCheckpoints;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Persists weak secret search checkpoints. Searches can run for hours, so rather than only saving when the extension
+ * unloads, changed checkpoints are also saved periodically and a crash loses at most one interval of progress.
+ */
+public class SearchCheckpointsPersistence {
+    static final String CHECKPOINTS_JSON_KEY = "weakSecretCheckpoints";
+    static final long DEFAULT_AUTO_SAVE_INTERVAL_MILLIS = 10_000;
+
+    private static final String TOKEN_KEY = "token";
+    private static final String WORDLIST_TYPE_KEY = "wordlist_type";
+    private static final String WORDLIST_KEY = "wordlist";
+    private static final String MUTATION_RULES_KEY = "mutation_rules";
+    private static final String POSITION_KEY = "position";
+
+    private final boolean isProVersion;
+    private final PersistedObject extensionData;
+    private final long autoSaveIntervalMillis;
+    private final ScheduledExecutorService executor;
+
+    private long savedModifications;
+
+    public SearchCheckpointsPersistence(boolean isProVersion, PersistedObject extensionData) {
+        this(isProVersion, extensionData, DEFAULT_AUTO_SAVE_INTERVAL_MILLIS);
+    }
+
+    SearchCheckpointsPersistence(boolean isProVersion, PersistedObject extensionData, long autoSaveIntervalMillis) {
+        this.isProVersion = isProVersion;
+        this.extensionData = extensionData;
+        this.autoSaveIntervalMillis = autoSaveIntervalMillis;
+        this.savedModifications = -1;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "JWT Editor checkpoint persistence");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SearchCheckpoints loadOrCreateNew() {
+        String checkpointsJson = isProVersion ? extensionData.getString(CHECKPOINTS_JSON_KEY) : null;
+
+        if (checkpointsJson == null || checkpointsJson.isEmpty()) {
+            return new SearchCheckpoints();
+        }
+
+        List<SearchCheckpoint> checkpoints = new ArrayList<>();
+
+        try {
+            for (Object object : new JSONArray(checkpointsJson)) {
+                SearchCheckpoint checkpoint = deserialize(object);
+
+                if (checkpoint != null) {
+                    checkpoints.add(checkpoint);
+                }
+            }
+        } catch (JSONException ignored) {
+        }
+
+        return new SearchCheckpoints(checkpoints);
+    }
+
+    /**
+     * Save the checkpoints periodically whenever they have changed since they were last saved
+     *
+     * @param checkpoints checkpoints to save
+     */
+    public void autoSave(SearchCheckpoints checkpoints) {
+        if (!isProVersion) {
+            return;
+        }
+
+        synchronized (this) {
+            savedModifications = checkpoints.modifications();
+        }
+
+        executor.scheduleWithFixedDelay(() -> saveIfModified(checkpoints), autoSaveIntervalMillis, autoSaveIntervalMillis, MILLISECONDS);
+    }
+
+    /**
+     * Stop saving periodically. Callers save the checkpoints one last time themselves.
+     */
+    public void close() {
+        executor.shutdownNow();
+
+        try {
+            executor.awaitTermination(1, SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public synchronized void save(SearchCheckpoints checkpoints) {
+        if (!isProVersion) {
+            return;
+        }
+
+        // Read before the checkpoints, so a change made while saving is saved again rather than missed
+        savedModifications = checkpoints.modifications();
+        JSONArray checkpointsArray = new JSONArray();
+
+        checkpoints.checkpoints().stream()
+                .map(SearchCheckpointsPersistence::serialize)
+                .forEach(checkpointsArray::put);
+
+        extensionData.setString(CHECKPOINTS_JSON_KEY, checkpointsArray.toString());
+    }
+
+    private synchronized void saveIfModified(SearchCheckpoints checkpoints) {
+        if (checkpoints.modifications() != savedModifications) {
+            save(checkpoints);
+        }
+    }
+
+    private static SearchCheckpoint deserialize(Object object) {
+        if (!(object instanceof JSONObject jsonObject)) {
+            return null;
+        }
+
+        try {
+            SearchCheckpoint checkpoint = new SearchCheckpoint(
+                    jsonObject.getString(TOKEN_KEY),
+                    WordlistType.valueOf(jsonObject.getString(WORDLIST_TYPE_KEY)),
+                    jsonObject.getString(WORDLIST_KEY),
+                    jsonObject.getBoolean(MUTATION_RULES_KEY),
+                    jsonObject.getLong(POSITION_KEY)
+            );
+
+            return checkpoint.position() < 0 ? null : checkpoint;
+        } catch (JSONException | IllegalArgumentException ignored) {
+            return null;
+        }
+    }
+
+    private static JSONObject serialize(SearchCheckpoint checkpoint) {
+        JSONObject jsonObject = new JSONObject();
+
+        jsonObject.put(TOKEN_KEY, checkpoint.token());
+        jsonObject.put(WORDLIST_TYPE_KEY, checkpoint.wordlistType().name());
+        jsonObject.put(WORDLIST_KEY, checkpoint.wordlist());
+        jsonObject.put(MUTATION_RULES_KEY, checkpoint.mutationRules());
+        jsonObject.put(POSITION_KEY, checkpoint.position());
+
+        return jsonObject;
+    }
+}
@@ -18,6 +18,7 @@ limitations under the License.
 
 package burp.persistence;
 
+import com.blackberry.jwteditor.model.jose.JOSEScanCache.ContentKey;
 import com.blackberry.jwteditor.model.jose.JWS;
 import com.blackberry.jwteditor.model.jose.JWSFactory;
 import com.blackberry.jwteditor.model.tokens.Token;
@@ -25,6 +26,7 @@ import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.text.ParseException;
+import java.util.function.Supplier;
 
 class TokenPersistence {
     static Token deserialize(Object object) {
@@ -45,9 +47,66 @@ class TokenPersistence {
         }
     }
 
-    public static String serialize(Token token) {
-        return """
-                {"id":%d,"host":"%s",path:"%s","jws":"%s"}
-                """.formatted(token.id(), token.host(), token.path(), token.jws());
+    /**
+     * Deserialize a lightweight index row, deferring loading of the JWS itself. The content hash and proxy counters
+     * are optional, as rows written by earlier versions lack them, and the weak secret is only written once found.
+     *
+     * @param object    row as stored
+     * @param jwsLoader loads the JWS for the row on first use
+     * @return the token, or null if the row is invalid
+     */
+    static Token deserializeRow(Object object, Supplier<JWS> jwsLoader) {
+        if (!(object instanceof JSONObject jsonObject)) {
+            return null;
+        }
+
+        try {
+            int id = jsonObject.getInt("id");
+            String host = jsonObject.getString("host");
+            String path = jsonObject.getString("path");
+            String algorithm = jsonObject.getString("alg");
+            String keyId = jsonObject.getString("kid");
+            ContentKey contentKey = parseContentKey(jsonObject.optString("sha256", null));
+            long hitCount = jsonObject.optLong("hits");
+            long firstSeen = jsonObject.optLong("first");
+            long lastSeen = jsonObject.optLong("last");
+            String weakSecret = jsonObject.optString("secret", null);
+
+            return id <= 0 ? null : new Token(id, host, path, algorithm, keyId, contentKey, hitCount, firstSeen, lastSeen, weakSecret, jwsLoader);
+        } catch (JSONException ignored) {
+            return null;
+        }
+    }
+
+    static JSONObject serializeRow(Token token) {
+        JSONObject jsonObject = new JSONObject();
+        jsonObject.put("id", token.id());
+        jsonObject.put("host", token.host());
+        jsonObject.put("path", token.path());
+        jsonObject.put("alg", token.algorithm());
+        jsonObject.put("kid", token.keyId());
+        jsonObject.put("sha256", token.contentKey().toHex());
+        jsonObject.put("hits", token.hitCount());
+        jsonObject.put("first", token.firstSeen());
+        jsonObject.put("last", token.lastSeen());
+
+        if (token.weakSecret() != null) {
+            jsonObject.put("secret", token.weakSecret());
+        }
+
+        return jsonObject;
+    }
+
+    // An invalid hash is recomputed from the JWS when required, so it is treated as absent
+    private static ContentKey parseContentKey(String hex) {
+        if (hex == null) {
+            return null;
+        }
+
+        try {
+            return ContentKey.fromHex(hex);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
 }
@@ -19,61 +19,287 @@ limitations under the License.
 package burp.persistence;
 
 import burp.api.montoya.persistence.PersistedObject;
+import com.blackberry.jwteditor.model.jose.JWS;
+import com.blackberry.jwteditor.model.jose.JWSFactory;
 import com.blackberry.jwteditor.model.tokens.Token;
 import com.blackberry.jwteditor.model.tokens.TokensModel;
+import com.blackberry.jwteditor.model.tokens.TokensModelListener;
+import com.nimbusds.jose.util.Base64URL;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
 
+import static java.lang.Math.min;
+
+/**
+ * Persists tokens as pages of lightweight index rows (ID, host, path, algorithm, key ID, content hash, proxy counters
+ * and any weak secret found) plus an append-only journal of rows added since the pages were last written. Each JWS is
+ * stored separately, keyed by its position.
+ * <p>
+ * Loading only reads the index length and the journal, so startup time is independent of the number of tokens.
+ * Pages are read as tokens on them are accessed, and each JWS is parsed on first use. Adding a token writes its
+ * JWS and one journal row. Once the journal holds a page of rows it is folded into the pages, so saves stay
+ * O(delta). The index length is the commit point of a fold, so a crash at any point loses no tokens.
+ * <p>
+ * Rows whose counters or weak secret change are only marked dirty, as the proxy updates them far more often than
+ * tokens are added. Dirty rows are written when the journal is folded and when flushed, so a crash loses at most the
+ * updates since then.
+ */
 public class TokensModelPersistence {
-    static final String TOKEN_JSON_KEY = "tokenList";
+    static final String LEGACY_TOKEN_JSON_KEY = "tokenList";
+    static final String TOKEN_INDEX_LENGTH_KEY = "tokenIndexLength";
+    static final String TOKEN_INDEX_PAGE_KEY_PREFIX = "tokenIndex.";
+    static final String TOKEN_JOURNAL_ENTRY_KEY_PREFIX = "tokenJournal.";
+    static final String TOKEN_BODY_KEY_PREFIX = "tokenBody.";
+    static final int PAGE_SIZE = 256;
 
     private final boolean isProVersion;
     private final PersistedObject extensionData;
+    private final List<JSONObject> journal;
+    private final Map<Integer, Token> dirtyTokens;
+
+    private int indexLength;
 
     public TokensModelPersistence(boolean isProVersion, PersistedObject extensionData) {
         this.isProVersion = isProVersion;
         this.extensionData = extensionData;
+        this.journal = new ArrayList<>();
+        this.dirtyTokens = new HashMap<>();
     }
 
-    public TokensModel loadOrCreateNew() {
-        String tokensJson = isProVersion ? extensionData.getString(TOKEN_JSON_KEY) : null;
-
-        if (tokensJson == null || tokensJson.isEmpty()) {
+    public synchronized TokensModel loadOrCreateNew() {
+        if (!isProVersion) {
             return new TokensModel();
         }
 
-        List<Token> tokenList = new ArrayList<>();
+        Integer storedIndexLength = extensionData.getInteger(TOKEN_INDEX_LENGTH_KEY);
+        indexLength = storedIndexLength == null || storedIndexLength < 0 ? 0 : storedIndexLength;
+
+        // Journal entries are keyed by position, so the journal runs from the end of the index to the first gap
+        journal.clear();
+
+        String entryJson;
+
+        while ((entryJson = extensionData.getString(journalEntryKey(indexLength + journal.size()))) != null) {
+            journal.add(parseRow(entryJson));
+        }
+
+        migrateLegacyTokens();
+
+        List<Token> journalTokens = new ArrayList<>();
+
+        for (int i = 0; i < journal.size(); i++) {
+            journalTokens.add(rowToToken(journal.get(i), indexLength + i));
+        }
+
+        return indexLength == 0 && journalTokens.isEmpty()
+                ? new TokensModel()
+                : new TokensModel(new PagedTokenList(indexLength, PAGE_SIZE, this::loadPage, journalTokens));
+    }
+
+    /**
+     * Persist tokens incrementally as they are added to the model
+     *
+     * @param tokensModel model to journal
+     */
+    public void journal(TokensModel tokensModel) {
+        if (!isProVersion) {
+            return;
+        }
+
+        tokensModel.addTokensModelListener(new TokensModelListener() {
+            @Override
+            public void notifyTokenInserted(Token token) {
+                append(token);
+            }
+
+            @Override
+            public void notifyTokenDeleted(int index) {
+                // Tokens are never removed from the model
+            }
+
+            @Override
+            public void notifyTokenUpdated(int index) {
+                // Fetched before taking this object's lock, as loading a page takes the model's lock and then ours
+                markDirty(index, tokensModel.getToken(index));
+            }
+        });
+    }
+
+    /**
+     * Write rows whose counters or weak secret have changed since they were last written
+     */
+    public synchronized void flush() {
+        writeDirtyRows();
+    }
+
+    private synchronized void markDirty(int position, Token token) {
+        dirtyTokens.put(position, token);
+    }
+
+    synchronized void append(Token token) {
+        int position = indexLength + journal.size();
+        JSONObject row = TokenPersistence.serializeRow(token);
+
+        // Write the JWS before the row, as the row makes the token visible
+        extensionData.setString(bodyKey(position), token.jws());
+        extensionData.setString(journalEntryKey(position), row.toString());
+        journal.add(row);
+
+        if (journal.size() >= PAGE_SIZE) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        writeDirtyRows();
+
+        int newIndexLength = indexLength + journal.size();
+        int firstPage = indexLength / PAGE_SIZE;
+        int lastPage = (newIndexLength - 1) / PAGE_SIZE;
+
+        // Only the partially filled last page and new pages are rewritten. The stored last page may hold rows
+        // beyond the index length from an interrupted fold, so only rows within the index are kept from it.
+        JSONArray storedRows = loadPageRows(firstPage);
+
+        for (int page = firstPage; page <= lastPage; page++) {
+            JSONArray rows = new JSONArray();
+            int start = page * PAGE_SIZE;
+            int end = min(newIndexLength, start + PAGE_SIZE);
+
+            for (int position = start; position < end; position++) {
+                Object row = position < indexLength ? storedRows.opt(position - start) : journal.get(position - indexLength);
+                rows.put(row == null ? JSONObject.NULL : row);
+            }
+
+            extensionData.setString(pageKey(page), rows.toString());
+        }
+
+        extensionData.setInteger(TOKEN_INDEX_LENGTH_KEY, newIndexLength);
+
+        for (int position = indexLength; position < newIndexLength; position++) {
+            extensionData.deleteString(journalEntryKey(position));
+        }
+
+        indexLength = newIndexLength;
+        journal.clear();
+    }
+
+    private void writeDirtyRows() {
+        Map<Integer, JSONArray> dirtyPages = new TreeMap<>();
+
+        for (Map.Entry<Integer, Token> entry : dirtyTokens.entrySet()) {
+            int position = entry.getKey();
+            JSONObject row = TokenPersistence.serializeRow(entry.getValue());
+
+            if (position >= indexLength) {
+                journal.set(position - indexLength, row);
+                extensionData.setString(journalEntryKey(position), row.toString());
+            } else {
+                dirtyPages.computeIfAbsent(position / PAGE_SIZE, this::loadPageRows).put(position % PAGE_SIZE, row);
+            }
+        }
+
+        dirtyPages.forEach((page, rows) -> extensionData.setString(pageKey(page), rows.toString()));
+        dirtyTokens.clear();
+    }
+
+    private synchronized List<Token> loadPage(int page) {
+        JSONArray rows = loadPageRows(page);
+        int start = page * PAGE_SIZE;
+        int end = min(indexLength, start + PAGE_SIZE);
+        List<Token> tokens = new ArrayList<>(end - start);
+
+        for (int position = start; position < end; position++) {
+            JSONObject row = position - start < rows.length() ? rows.optJSONObject(position - start) : null;
+            tokens.add(rowToToken(row, position));
+        }
+
+        return tokens;
+    }
+
+    private JSONArray loadPageRows(int page) {
+        String pageJson = extensionData.getString(pageKey(page));
+
+        try {
+            return pageJson == null ? new JSONArray() : new JSONArray(pageJson);
+        } catch (JSONException e) {
+            return new JSONArray();
+        }
+    }
+
+    // Corrupt rows are replaced with an empty token rather than dropped, so positions still line up with bodies
+    private Token rowToToken(JSONObject row, int position) {
+        Supplier<JWS> jwsLoader = () -> loadBody(position);
+        Token token = TokenPersistence.deserializeRow(row, jwsLoader);
+
+        return token == null ? new Token(0, "", "", "", "", jwsLoader) : token;
+    }
+
+    private JWS loadBody(int position) {
+        String compactJws = extensionData.getString(bodyKey(position));
+
+        if (compactJws != null) {
+            try {
+                return JWSFactory.parse(compactJws);
+            } catch (ParseException ignored) {
+            }
+        }
+
+        Base64URL empty = new Base64URL("");
+        return JWSFactory.jwsFromParts(empty, empty, empty);
+    }
+
+    private void migrateLegacyTokens() {
+        String tokensJson = extensionData.getString(LEGACY_TOKEN_JSON_KEY);
+
+        if (tokensJson == null) {
+            return;
+        }
 
         try {
             for (Object object : new JSONArray(tokensJson)) {
                 Token token = TokenPersistence.deserialize(object);
 
                 if (token != null) {
-                    tokenList.add(token);
+                    append(token);
                 }
             }
         } catch (JSONException ignored) {
         }
 
-        return new TokensModel(tokenList);
+        if (!journal.isEmpty()) {
+            compact();
+        }
+
+        extensionData.deleteString(LEGACY_TOKEN_JSON_KEY);
     }
 
-    public void save(TokensModel tokensModel) {
-        if (!isProVersion) {
-            return;
+    private static JSONObject parseRow(String rowJson) {
+        try {
+            return new JSONObject(rowJson);
+        } catch (JSONException e) {
+            return null;
         }
+    }
 
-        JSONArray tokensArray = new JSONArray();
+    private static String pageKey(int page) {
+        return TOKEN_INDEX_PAGE_KEY_PREFIX + page;
+    }
 
-        tokensModel.tokens().stream()
-                .map(TokenPersistence::serialize)
-                .map(JSONObject::new)
-                .forEach(tokensArray::put);
+    private static String journalEntryKey(int position) {
+        return TOKEN_JOURNAL_ENTRY_KEY_PREFIX + position;
+    }
 
-        extensionData.setString(TOKEN_JSON_KEY, tokensArray.toString());
+    private static String bodyKey(int position) {
+        return TOKEN_BODY_KEY_PREFIX + position;
     }
 }
@@ -20,25 +20,40 @@ package burp.proxy;
 
 import burp.api.montoya.core.Annotations;
 import burp.api.montoya.core.ByteArray;
-import burp.api.montoya.utilities.ByteUtils;
-import com.blackberry.jwteditor.model.jose.JWS;
-import com.blackberry.jwteditor.model.jose.MutableJOSEObject;
+import burp.api.montoya.http.message.HttpMessage;
+import com.blackberry.jwteditor.model.jose.JOSEObjectKind;
 
-import static com.blackberry.jwteditor.model.jose.JOSEObjectFinder.extractJOSEObjects;
+import static com.blackberry.jwteditor.model.jose.JOSEObjectFinder.classifyJOSEObjects;
 
 class AnnotationsModifier {
-    private final ByteUtils byteUtils;
+    private static final String CONTENT_TYPE_HEADER = "Content-Type";
+
     private final ProxyConfig proxyConfig;
 
-    AnnotationsModifier(ProxyConfig proxyConfig, ByteUtils byteUtils) {
-        this.byteUtils = byteUtils;
+    AnnotationsModifier(ProxyConfig proxyConfig) {
         this.proxyConfig = proxyConfig;
     }
 
+    void updateAnnotationsIfApplicable(Annotations annotations, HttpMessage message) {
+        if (!proxyConfig.highlightJWT()) {
+            return;
+        }
+
+        ByteArray data = message.toByteArray();
+        int bodyOffset = message.bodyOffset();
+
+        switch (proxyConfig.scanScope(data.length() - bodyOffset, () -> message.headerValue(CONTENT_TYPE_HEADER))) {
+            case FULL_MESSAGE -> updateAnnotations(annotations, new ByteArrayCharSequence(data));
+            case HEADERS -> updateAnnotations(annotations, new ByteArrayCharSequence(data, 0, bodyOffset));
+            case NONE -> {
+            }
+        }
+    }
+
     void updateAnnotationsIfApplicable(Annotations annotations, ByteArray data) {
         if (proxyConfig.highlightJWT()) {
-            String message = byteUtils.convertToString(data.getBytes());
-            updateAnnotationsIfApplicable(annotations, message);
+            // Scan the raw bytes in place, rather than copying and decoding the whole message into a String
+            updateAnnotations(annotations, new ByteArrayCharSequence(data));
         }
     }
 
@@ -48,8 +63,9 @@ class AnnotationsModifier {
         }
     }
 
-    private void updateAnnotations(Annotations annotations, String messageString) {
-        Counts counts = countJOSEObjects(messageString);
+    // Annotations are only guaranteed to be applied if set before the handler returns, so this runs on Burp's thread
+    private void updateAnnotations(Annotations annotations, CharSequence message) {
+        Counts counts = countJOSEObjects(message);
 
         if (!counts.isZero()) {
             annotations.setHighlightColor(proxyConfig.highlightColor().burpColor);
@@ -57,12 +73,12 @@ class AnnotationsModifier {
         }
     }
 
-    private Counts countJOSEObjects(String messageString) {
+    private Counts countJOSEObjects(CharSequence message) {
         int jwsCount = 0;
         int jweCount = 0;
 
-        for (MutableJOSEObject mutableJoseObject : extractJOSEObjects(messageString)) {
-            if (mutableJoseObject.getModified() instanceof JWS) {
+        for (JOSEObjectKind kind : classifyJOSEObjects(message)) {
+            if (kind == JOSEObjectKind.JWS) {
                 jwsCount++;
             } else {
                 jweCount++;
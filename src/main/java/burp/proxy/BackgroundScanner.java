@@ -0,0 +1,131 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2024 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package burp.proxy;
+
+import burp.api.montoya.logging.Logging;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Bounded executor used to scan proxy messages for tokens to capture away from Burp's proxy threads.
+ * Once the queue is full, further messages are dropped (and counted) rather than stalling the proxy.
+ * Annotations are not updated here, as Burp only applies them if they are set before the handler returns.
+ */
+public class BackgroundScanner {
+    static final int DEFAULT_THREAD_COUNT = 2;
+    static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    static final int DROP_LOG_INTERVAL = 1000;
+
+    private final Logging logging;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong dropped;
+
+    public BackgroundScanner(Logging logging) {
+        this(logging, DEFAULT_THREAD_COUNT, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    BackgroundScanner(Logging logging, int threadCount, int queueCapacity) {
+        this.logging = logging;
+        this.dropped = new AtomicLong();
+        this.executor = new ThreadPoolExecutor(
+                threadCount,
+                threadCount,
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new ScannerThreadFactory()
+        );
+    }
+
+    /**
+     * Queue a scanning task
+     *
+     * @param task task to run in the background
+     * @return true if the task was queued, false if it was dropped as the queue is full or the scanner is shut down
+     */
+    boolean submit(Runnable task) {
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            long count = dropped.incrementAndGet();
+
+            // Log the first drop and then periodically, so heavy load doesn't flood the extension output
+            if (count == 1 || count % DROP_LOG_INTERVAL == 0) {
+                logging.logToError("Proxy token capture queue full, %,d messages dropped so far.".formatted(count));
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * @return number of messages waiting to be scanned
+     */
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * @return number of messages dropped as the queue was full or the scanner was shut down
+     */
+    public long dropped() {
+        return dropped.get();
+    }
+
+    /**
+     * @return number of messages scanned so far
+     */
+    public long completed() {
+        return executor.getCompletedTaskCount();
+    }
+
+    /**
+     * Stop accepting new messages and wait briefly for any in flight to finish
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+
+        try {
+            executor.awaitTermination(1, SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class ScannerThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "JWT Editor proxy scanner " + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2022 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package burp.proxy;
+
+import burp.api.montoya.core.ByteArray;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+/**
+ * Read-only view of a ByteArray as ISO-8859-1 characters, which lets messages be scanned for JOSE objects
+ * without decoding or copying them. Only the characters of a subsequence that is converted to a String are copied.
+ */
+class ByteArrayCharSequence implements CharSequence {
+    private final ByteArray data;
+    private final int offset;
+    private final int length;
+
+    ByteArrayCharSequence(ByteArray data) {
+        this(data, 0, data.length());
+    }
+
+    ByteArrayCharSequence(ByteArray data, int offset, int length) {
+        this.data = data;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        return (char) (data.getByte(offset + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("Invalid range (%d, %d) for length %d".formatted(start, end, length));
+        }
+
+        return new ByteArrayCharSequence(data, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        byte[] bytes = new byte[length];
+
+        for (int i = 0; i < length; i++) {
+            bytes[i] = data.getByte(offset + i);
+        }
+
+        return new String(bytes, ISO_8859_1);
+    }
+}
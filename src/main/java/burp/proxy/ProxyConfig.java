@@ -20,6 +20,10 @@ package burp.proxy;
 
 import com.blackberry.jwteditor.utils.Utils;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
 import static burp.proxy.HighlightColor.GREEN;
 
 /**
@@ -32,13 +36,24 @@ public class ProxyConfig {
 
     private volatile boolean highlightJWT;
     private volatile HighlightColor highlightColor;
+    private volatile List<String> allowedContentTypes;
+    private volatile List<String> deniedContentTypes;
+    private volatile int maxBodySize;
+    private volatile boolean scanHeadersOfLargeMessages;
+    private volatile boolean captureTokens;
 
     /**
-     * Construct proxy config with default options
+     * Construct proxy config with default options. Messages aren't filtered by size or content type unless configured,
+     * so every message is scanned as before the filter was introduced.
      */
     public ProxyConfig() {
         this.highlightJWT = true;
         this.highlightColor = DEFAULT_HIGHLIGHT_COLOR;
+        this.allowedContentTypes = List.of();
+        this.deniedContentTypes = List.of();
+        this.maxBodySize = 0;
+        this.scanHeadersOfLargeMessages = true;
+        this.captureTokens = false;
     }
 
     /**
@@ -77,6 +92,131 @@ public class ProxyConfig {
         this.highlightColor = highlightColor == null ? DEFAULT_HIGHLIGHT_COLOR : highlightColor;
     }
 
+    /**
+     * Content types whose bodies are scanned for JWTs. An empty list allows all content types not explicitly denied.
+     *
+     * @return lowercase content type prefixes
+     */
+    public List<String> allowedContentTypes() {
+        return allowedContentTypes;
+    }
+
+    /**
+     * Set the content types whose bodies are scanned for JWTs
+     *
+     * @param allowedContentTypes content type prefixes, such as "application/json" or "text/"
+     */
+    public void setAllowedContentTypes(List<String> allowedContentTypes) {
+        this.allowedContentTypes = normalise(allowedContentTypes);
+    }
+
+    /**
+     * Content types whose bodies are never scanned for JWTs. Headers of such messages are still scanned.
+     *
+     * @return lowercase content type prefixes
+     */
+    public List<String> deniedContentTypes() {
+        return deniedContentTypes;
+    }
+
+    /**
+     * Set the content types whose bodies are never scanned for JWTs
+     *
+     * @param deniedContentTypes content type prefixes, such as "image/" or "application/pdf"
+     */
+    public void setDeniedContentTypes(List<String> deniedContentTypes) {
+        this.deniedContentTypes = normalise(deniedContentTypes);
+    }
+
+    /**
+     * Largest message body, in bytes, that is scanned for JWTs. Zero means there is no limit.
+     *
+     * @return maximum body size in bytes
+     */
+    public int maxBodySize() {
+        return maxBodySize;
+    }
+
+    /**
+     * Set the largest message body, in bytes, that is scanned for JWTs
+     *
+     * @param maxBodySize maximum body size in bytes, or zero for no limit
+     */
+    public void setMaxBodySize(int maxBodySize) {
+        this.maxBodySize = Math.max(0, maxBodySize);
+    }
+
+    /**
+     * Get whether the headers of messages with bodies larger than the maximum body size are still scanned
+     *
+     * @return true if the headers of large messages are to be scanned
+     */
+    public boolean scanHeadersOfLargeMessages() {
+        return scanHeadersOfLargeMessages;
+    }
+
+    /**
+     * Set whether the headers of messages with bodies larger than the maximum body size are still scanned
+     *
+     * @param scanHeadersOfLargeMessages flag determining whether the headers of large messages are scanned
+     */
+    public void setScanHeadersOfLargeMessages(boolean scanHeadersOfLargeMessages) {
+        this.scanHeadersOfLargeMessages = scanHeadersOfLargeMessages;
+    }
+
+    /**
+     * Get whether JWS within proxied HTTP messages are added to the Tokens tab
+     *
+     * @return true if JWS seen by the proxy are to be captured
+     */
+    public boolean captureTokens() {
+        return captureTokens;
+    }
+
+    /**
+     * Set whether JWS within proxied HTTP messages are added to the Tokens tab
+     *
+     * @param captureTokens flag determining whether JWS seen by the proxy are captured
+     */
+    public void setCaptureTokens(boolean captureTokens) {
+        this.captureTokens = captureTokens;
+    }
+
+    /**
+     * Decide how much of an HTTP message to scan. The body size is checked before the content type, so that
+     * the headers are only looked up for messages that could still be scanned in full.
+     *
+     * @param bodyLength  length of the message body in bytes
+     * @param contentType supplier of the message's Content-Type header value, which may be null
+     * @return the parts of the message to be scanned
+     */
+    ScanScope scanScope(int bodyLength, Supplier<String> contentType) {
+        if (bodyLength == 0) {
+            return ScanScope.FULL_MESSAGE;
+        }
+
+        int maxBodySize = this.maxBodySize;
+
+        if (maxBodySize > 0 && bodyLength > maxBodySize) {
+            return scanHeadersOfLargeMessages ? ScanScope.HEADERS : ScanScope.NONE;
+        }
+
+        String type = contentType.get();
+        type = type == null ? "" : type.trim().toLowerCase(Locale.ROOT);
+
+        if (matches(deniedContentTypes, type)) {
+            return ScanScope.HEADERS;
+        }
+
+        List<String> allowedContentTypes = this.allowedContentTypes;
+
+        if (!allowedContentTypes.isEmpty() && !matches(allowedContentTypes, type)) {
+            return ScanScope.HEADERS;
+        }
+
+        return ScanScope.FULL_MESSAGE;
+    }
+
     /**
      * Generates comment for proxy history items to be highlighted
      *
@@ -87,4 +227,30 @@ public class ProxyConfig {
     public String comment(int jwsCount, int jweCount) {
         return String.format(BURP_PROXY_COMMENT_TEMPLATE, jwsCount, jweCount);
     }
+
+    private static boolean matches(List<String> contentTypePrefixes, String contentType) {
+        if (contentType.isEmpty()) {
+            return false;
+        }
+
+        for (String prefix : contentTypePrefixes) {
+            if (contentType.startsWith(prefix)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static List<String> normalise(List<String> contentTypes) {
+        if (contentTypes == null) {
+            return List.of();
+        }
+
+        return contentTypes.stream()
+                .map(contentType -> contentType.trim().toLowerCase(Locale.ROOT))
+                .filter(contentType -> !contentType.isEmpty())
+                .distinct()
+                .toList();
+    }
 }
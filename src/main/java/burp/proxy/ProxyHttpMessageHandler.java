@@ -19,18 +19,21 @@ limitations under the License.
 package burp.proxy;
 
 import burp.api.montoya.proxy.http.*;
-import burp.api.montoya.utilities.ByteUtils;
+import com.blackberry.jwteditor.model.tokens.TokenCapture;
 
 public class ProxyHttpMessageHandler implements ProxyRequestHandler, ProxyResponseHandler {
     private final AnnotationsModifier annotationsModifier;
+    private final TokenCollector tokenCollector;
 
-    public ProxyHttpMessageHandler(ProxyConfig proxyConfig, ByteUtils byteUtils) {
-        this.annotationsModifier = new AnnotationsModifier(proxyConfig, byteUtils);
+    public ProxyHttpMessageHandler(ProxyConfig proxyConfig, BackgroundScanner backgroundScanner, TokenCapture tokenCapture) {
+        this.annotationsModifier = new AnnotationsModifier(proxyConfig);
+        this.tokenCollector = new TokenCollector(proxyConfig, backgroundScanner, tokenCapture);
     }
 
     @Override
     public ProxyRequestReceivedAction handleRequestReceived(InterceptedRequest interceptedRequest) {
-        annotationsModifier.updateAnnotationsIfApplicable(interceptedRequest.annotations(), interceptedRequest.toByteArray());
+        annotationsModifier.updateAnnotationsIfApplicable(interceptedRequest.annotations(), interceptedRequest);
+        tokenCollector.collectTokensIfApplicable(interceptedRequest, interceptedRequest);
 
         return ProxyRequestReceivedAction.continueWith(interceptedRequest);
     }
@@ -42,7 +45,8 @@ public class ProxyHttpMessageHandler implements ProxyRequestHandler, ProxyRespon
 
     @Override
     public ProxyResponseReceivedAction handleResponseReceived(InterceptedResponse interceptedResponse) {
-        annotationsModifier.updateAnnotationsIfApplicable(interceptedResponse.annotations(), interceptedResponse.toByteArray());
+        annotationsModifier.updateAnnotationsIfApplicable(interceptedResponse.annotations(), interceptedResponse);
+        tokenCollector.collectTokensIfApplicable(interceptedResponse.initiatingRequest(), interceptedResponse);
 
         return ProxyResponseReceivedAction.continueWith(interceptedResponse);
     }
@@ -19,13 +19,12 @@ limitations under the License.
 package burp.proxy;
 
 import burp.api.montoya.proxy.websocket.*;
-import burp.api.montoya.utilities.ByteUtils;
 
 public class ProxyWsMessageHandler implements ProxyMessageHandler {
     private final AnnotationsModifier annotationsModifier;
 
-    public ProxyWsMessageHandler(ProxyConfig proxyConfig, ByteUtils byteUtils) {
-        this.annotationsModifier = new AnnotationsModifier(proxyConfig, byteUtils);
+    public ProxyWsMessageHandler(ProxyConfig proxyConfig) {
+        this.annotationsModifier = new AnnotationsModifier(proxyConfig);
     }
 
     @Override
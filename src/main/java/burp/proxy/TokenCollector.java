@@ -0,0 +1,81 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package burp.proxy;
+
+import burp.api.montoya.core.ByteArray;
+import burp.api.montoya.http.message.HttpMessage;
+import burp.api.montoya.http.message.requests.HttpRequest;
+import com.blackberry.jwteditor.model.jose.JWS;
+import com.blackberry.jwteditor.model.jose.MutableJOSEObject;
+import com.blackberry.jwteditor.model.tokens.TokenCapture;
+
+import static com.blackberry.jwteditor.model.jose.JOSEObjectFinder.extractJOSEObjects;
+
+class TokenCollector {
+    private static final String CONTENT_TYPE_HEADER = "Content-Type";
+
+    private final ProxyConfig proxyConfig;
+    private final BackgroundScanner backgroundScanner;
+    private final TokenCapture tokenCapture;
+
+    TokenCollector(ProxyConfig proxyConfig, BackgroundScanner backgroundScanner, TokenCapture tokenCapture) {
+        this.proxyConfig = proxyConfig;
+        this.backgroundScanner = backgroundScanner;
+        this.tokenCapture = tokenCapture;
+    }
+
+    /**
+     * Capture the JWS within a message, attributing them to the host and path of the request
+     *
+     * @param request the request, or the request that initiated a response
+     * @param message the message to scan
+     */
+    void collectTokensIfApplicable(HttpRequest request, HttpMessage message) {
+        if (!proxyConfig.captureTokens()) {
+            return;
+        }
+
+        ByteArray data = message.toByteArray();
+        int bodyOffset = message.bodyOffset();
+
+        switch (proxyConfig.scanScope(data.length() - bodyOffset, () -> message.headerValue(CONTENT_TYPE_HEADER))) {
+            case FULL_MESSAGE -> collectTokensInBackground(request, new ByteArrayCharSequence(data));
+            case HEADERS -> collectTokensInBackground(request, new ByteArrayCharSequence(data, 0, bodyOffset));
+            case NONE -> {
+            }
+        }
+    }
+
+    // Capturing doesn't change the message, so it need not finish before the handler returns. The message is an
+    // immutable snapshot, so the proxy thread only hands over references.
+    private void collectTokensInBackground(HttpRequest request, CharSequence message) {
+        String host = request.httpService().host();
+        String path = request.path();
+
+        backgroundScanner.submit(() -> collectTokens(host, path, message));
+    }
+
+    private void collectTokens(String host, String path, CharSequence message) {
+        for (MutableJOSEObject joseObject : extractJOSEObjects(message)) {
+            if (joseObject.getModified() instanceof JWS jws) {
+                tokenCapture.capture(host, path, jws);
+            }
+        }
+    }
+}
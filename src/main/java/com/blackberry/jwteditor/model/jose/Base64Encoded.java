@@ -23,6 +23,9 @@ import com.nimbusds.jose.util.Base64URL;
 public abstract class Base64Encoded {
     private final Base64URL data;
 
+    // Decoded lazily, at most a few times under contention, as decoding is idempotent
+    private volatile String decoded;
+
     Base64Encoded(Base64URL data) {
         this.data = data;
     }
@@ -32,7 +35,14 @@ public abstract class Base64Encoded {
     }
 
     public String decoded() {
-        return data.decodeToString();
+        String result = decoded;
+
+        if (result == null) {
+            result = data.decodeToString();
+            decoded = result;
+        }
+
+        return result;
     }
 
     @Override
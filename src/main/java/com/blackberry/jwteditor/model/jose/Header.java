@@ -27,6 +27,10 @@ import static com.nimbusds.jose.HeaderParameterNames.ALGORITHM;
 import static com.nimbusds.jose.HeaderParameterNames.KEY_ID;
 
 public class Header extends Base64Encoded {
+    // Parsed lazily and never exposed, as callers of json() are free to modify the object they receive
+    private volatile JSONObject parsedJson;
+    private volatile String algorithm;
+    private volatile String keyId;
 
     public Header(Base64URL header) {
         super(header);
@@ -45,15 +49,35 @@ public class Header extends Base64Encoded {
     }
 
     public String algorithm() {
-        return headerValue(ALGORITHM);
+        String result = algorithm;
+
+        if (result == null) {
+            result = headerValue(ALGORITHM);
+            algorithm = result;
+        }
+
+        return result;
     }
 
     public String keyId() {
-        return headerValue(KEY_ID);
+        String result = keyId;
+
+        if (result == null) {
+            result = headerValue(KEY_ID);
+            keyId = result;
+        }
+
+        return result;
     }
 
     private String headerValue(String key) {
-        JSONObject json = json();
+        JSONObject json = parsedJson;
+
+        if (json == null) {
+            json = json();
+            parsedJson = json;
+        }
+
         return json.has(key) ? json.getString(key) : "";
     }
 }
@@ -18,52 +18,102 @@ limitations under the License.
 
 package com.blackberry.jwteditor.model.jose;
 
-import com.nimbusds.jose.JWEObject;
+import com.blackberry.jwteditor.model.jose.JOSEScanCache.ContentKey;
+import com.blackberry.jwteditor.model.jose.JOSEScanCache.ScannedJOSEObject;
+import com.nimbusds.jose.JWEHeader;
 import com.nimbusds.jose.util.Base64URL;
 import com.nimbusds.jose.util.JSONObjectUtils;
 
 import java.text.ParseException;
-import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import static com.blackberry.jwteditor.utils.StringUtils.countOccurrences;
 import static com.nimbusds.jose.Header.MAX_HEADER_STRING_LENGTH;
 import static com.nimbusds.jose.HeaderParameterNames.ALGORITHM;
 
 public class JOSEObjectFinder {
     public static final String BASE64_REGEX = "[A-Za-z0-9-_]";
 
-    private static final String JWS_REGEX = "e%s*\\.%s+\\.%s*[\\.^]?".formatted(BASE64_REGEX, BASE64_REGEX, BASE64_REGEX);
-    private static final String JWE_REGEX = "e%s*\\.%s*\\.%s+\\.%s+\\.%s+".formatted(BASE64_REGEX, BASE64_REGEX, BASE64_REGEX, BASE64_REGEX, BASE64_REGEX);
-    private static final Pattern JOSE_OBJECT_PATTERN = Pattern.compile("(%s)|(%s)".formatted(JWE_REGEX, JWS_REGEX));
+    private static final JOSEScanCache SCAN_CACHE = new JOSEScanCache(JOSEScanCache.DEFAULT_CAPACITY);
 
     /**
-     * Extract a list of JOSEObjectPairs from a block of text that may contain JWE/JWS in compact form
+     * Extract a list of JOSEObjectPairs from a block of text that may contain JWE/JWS in compact form. Results for
+     * text containing candidates are cached, so the editors and the scanner don't parse the same message twice.
+     * Text without candidates is neither hashed nor cached, as scanning it is cheaper than hashing it.
      *
-     * @param text text block
+     * @param text text block, such as a String or a view over the raw bytes of a message
      * @return list of JOSEObjectPairs
      */
-    public static List<MutableJOSEObject> extractJOSEObjects(String text) {
-        List<MutableJOSEObject> joseObjects = new ArrayList<>();
+    public static List<MutableJOSEObject> extractJOSEObjects(CharSequence text) {
+        JOSEObjectScanner scanner = new JOSEObjectScanner(text);
 
-        Set<String> candidates = findCandidateJoseObjectsWithin(text);
+        if (!scanner.next()) {
+            return new ArrayList<>();
+        }
+
+        ContentKey key = ContentKey.of(text);
+        List<ScannedJOSEObject> scanned = SCAN_CACHE.find(key);
 
-        for (String candidate : candidates) {
-            parseJWT(candidate).ifPresent(value -> joseObjects.add(new MutableJOSEObject(candidate, value)));
+        if (scanned == null) {
+            scanned = scan(scanner);
+            SCAN_CACHE.put(key, scanned);
+        }
+
+        List<MutableJOSEObject> joseObjects = new ArrayList<>(scanned.size());
+
+        for (ScannedJOSEObject scannedJoseObject : scanned) {
+            joseObjects.add(scannedJoseObject.toMutableJOSEObject());
         }
 
         return joseObjects;
     }
 
-    public static boolean containsJOSEObjects(String text) {
-        Set<String> candidates = findCandidateJoseObjectsWithin(text);
+    /**
+     * Cache of the objects extracted from recently seen messages, shared by everything that calls
+     * {@link #extractJOSEObjects(CharSequence)}
+     *
+     * @return the shared cache, for sizing and statistics
+     */
+    public static JOSEScanCache scanCache() {
+        return SCAN_CACHE;
+    }
+
+    /**
+     * Classify the distinct JWE/JWS in compact form within a block of text, without building the objects themselves.
+     * Only the segment count and the header are checked, so payloads are never decoded or parsed.
+     *
+     * @param text text block, such as a String or a view over the raw bytes of a message
+     * @return kinds of the distinct objects found, in the same order as {@link #extractJOSEObjects(CharSequence)}
+     */
+    public static List<JOSEObjectKind> classifyJOSEObjects(CharSequence text) {
+        List<JOSEObjectKind> kinds = new ArrayList<>();
+        List<String> classified = new ArrayList<>();
+        JOSEObjectScanner scanner = new JOSEObjectScanner(text);
+
+        while (scanner.next()) {
+            String candidate = scanner.candidate();
 
-        for (String candidate : candidates) {
-            // Try to parse each as both a JWE and a JWS
-            Optional<JOSEObject> jwe = parseJWE(candidate);
-            Optional<JOSEObject> jws = jwe.isEmpty() ? parseJWS(candidate) : Optional.empty();
+            if (classified.contains(candidate)) {
+                continue;
+            }
+
+            classify(candidate, scanner.parts()).ifPresent(kind -> {
+                kinds.add(kind);
+                classified.add(candidate);
+            });
+        }
 
-            if (jwe.isPresent() || jws.isPresent()) {
+        return kinds;
+    }
+
+    public static boolean containsJOSEObjects(CharSequence text) {
+        JOSEObjectScanner scanner = new JOSEObjectScanner(text);
+
+        while (scanner.next()) {
+            if (classify(scanner.candidate(), scanner.parts()).isPresent()) {
                 return true;
             }
         }
@@ -72,36 +122,64 @@ public class JOSEObjectFinder {
     }
 
     public static Optional<JOSEObject> parseJOSEObject(String text) {
-        return parseJWT(text);
+        JOSEObjectScanner scanner = new JOSEObjectScanner(text);
+
+        return scanner.matchesAll() ? parse(text, scanner.parts()) : Optional.empty();
     }
 
-    private static Set<String> findCandidateJoseObjectsWithin(String text) {
-        Matcher m = JOSE_OBJECT_PATTERN.matcher(text);
-        Set<String> strings = new LinkedHashSet<>();
+    // Scanner is positioned on the first candidate
+    private static List<ScannedJOSEObject> scan(JOSEObjectScanner scanner) {
+        List<ScannedJOSEObject> joseObjects = new ArrayList<>();
+
+        do {
+            String candidate = scanner.candidate();
+
+            if (isExtracted(joseObjects, candidate)) {
+                continue;
+            }
+
+            parse(candidate, scanner.parts()).ifPresent(value -> joseObjects.add(new ScannedJOSEObject(candidate, value)));
+        } while (scanner.next());
+
+        return joseObjects;
+    }
 
-        while (m.find()) {
-            String token = m.group();
-            strings.add(token);
+    // Messages rarely contain more than a handful of distinct tokens, so a linear search beats hashing every candidate
+    private static boolean isExtracted(List<ScannedJOSEObject> joseObjects, String candidate) {
+        for (ScannedJOSEObject joseObject : joseObjects) {
+            if (joseObject.original().equals(candidate)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static Optional<JOSEObjectKind> classify(String candidate, int parts) {
+        // Candidates can end with a trailing dot, which the factories reject
+        if (countOccurrences(candidate, '.') != parts - 1) {
+            return Optional.empty();
+        }
+
+        if (parts == JOSEObjectScanner.JWE_PARTS) {
+            return hasJWEHeader(candidate) ? Optional.of(JOSEObjectKind.JWE) : Optional.empty();
         }
 
-        return strings;
+        return hasJWSHeader(candidate) ? Optional.of(JOSEObjectKind.JWS) : Optional.empty();
     }
 
-    private static Optional<JOSEObject> parseJWT(String candidate) {
-        Matcher m = JOSE_OBJECT_PATTERN.matcher(candidate);
+    private static Optional<JOSEObject> parse(String candidate, int parts) {
+        Optional<JOSEObjectKind> kind = classify(candidate, parts);
 
-        if (!m.matches()) {
+        if (kind.isEmpty()) {
             return Optional.empty();
         }
 
-        // Try to parse each as both a JWE and a JWS
-        Optional<JOSEObject> jwe = parseJWE(candidate);
-        return jwe.isPresent() ? jwe : parseJWS(candidate);
+        return kind.get() == JOSEObjectKind.JWE ? parseJWE(candidate) : parseJWS(candidate);
     }
 
     private static Optional<JOSEObject> parseJWE(String candidate) {
         try {
-            JWEObject.parse(candidate);
             return Optional.of(JWEFactory.parse(candidate));
         } catch (ParseException e) {
             return Optional.empty();
@@ -110,26 +188,37 @@ public class JOSEObjectFinder {
 
     private static Optional<JOSEObject> parseJWS(String candidate) {
         try {
-            Base64URL[] parts = com.nimbusds.jose.JOSEObject.split(candidate);
+            return Optional.of(JWSFactory.parse(candidate));
+        } catch (ParseException e) {
+            return Optional.empty();
+        }
+    }
 
-            if (parts.length != 3) {
-                throw new ParseException("Unexpected number of Base64URL parts, must be three", 0);
-            }
+    // Header must be a valid JWE header, which also requires 'alg' and 'enc' values
+    private static boolean hasJWEHeader(String candidate) {
+        try {
+            JWEHeader.parse(encodedHeader(candidate));
+            return true;
+        } catch (ParseException e) {
+            return false;
+        }
+    }
 
-            // Header must be Base64URL encoded UTF-8 encoded JSON object with 'alg' value
-            Base64URL encodedHeader = parts[0];
-            String header = encodedHeader.decodeToString(); // assumes UTF-8
+    // Header must be Base64URL encoded UTF-8 encoded JSON object with 'alg' value
+    private static boolean hasJWSHeader(String candidate) {
+        try {
+            String header = encodedHeader(candidate).decodeToString(); // assumes UTF-8
             Map<String, Object> headerJson = JSONObjectUtils.parse(header, MAX_HEADER_STRING_LENGTH);
 
             String algValue = JSONObjectUtils.getString(headerJson, ALGORITHM);
 
-            if (algValue == null || algValue.isBlank()) {
-                throw new ParseException("Missing \"alg\" in header JSON object", 0);
-            }
-
-            return Optional.of(JWSFactory.parse(candidate));
+            return algValue != null && !algValue.isBlank();
         } catch (ParseException e) {
-            return Optional.empty();
+            return false;
         }
     }
+
+    private static Base64URL encodedHeader(String candidate) {
+        return new Base64URL(candidate.substring(0, candidate.indexOf('.')));
+    }
 }
@@ -0,0 +1,132 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2024 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.model.jose;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size bounded intern cache mapping compact serializations to the immutable objects parsed from them, so that
+ * tokens seen repeatedly are only split, decoded and parsed once. Objects are weakly referenced, so the cache
+ * never keeps an object alive that nothing else is using.
+ *
+ * @param <T> type of JOSE object interned
+ */
+public class JOSEObjectInterner<T extends JOSEObject> {
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final Map<String, WeakReference<T>> objects;
+
+    private int capacity;
+    private long hits;
+    private long misses;
+    private long collected;
+
+    JOSEObjectInterner(int capacity) {
+        this.capacity = requirePositive(capacity);
+        this.objects = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, WeakReference<T>> eldest) {
+                return size() > JOSEObjectInterner.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * @param compact compact serialization
+     * @return the object previously interned for the serialization, or null if there is none
+     */
+    synchronized T get(String compact) {
+        WeakReference<T> reference = objects.get(compact);
+        T object = reference == null ? null : reference.get();
+
+        if (object != null) {
+            hits++;
+            return object;
+        }
+
+        if (reference != null) {
+            objects.remove(compact);
+            collected++;
+        }
+
+        misses++;
+        return null;
+    }
+
+    synchronized void put(String compact, T object) {
+        objects.put(compact, new WeakReference<>(object));
+    }
+
+    /**
+     * Change the maximum number of interned objects, discarding the least recently used as required
+     *
+     * @param capacity maximum number of objects
+     */
+    public synchronized void setCapacity(int capacity) {
+        this.capacity = requirePositive(capacity);
+
+        Iterator<String> iterator = objects.keySet().iterator();
+
+        while (objects.size() > capacity) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    public synchronized int capacity() {
+        return capacity;
+    }
+
+    public synchronized int size() {
+        return objects.size();
+    }
+
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    /**
+     * @return number of lookups that found an entry whose object had already been garbage collected
+     */
+    public synchronized long collected() {
+        return collected;
+    }
+
+    public synchronized void clear() {
+        objects.clear();
+        hits = 0;
+        misses = 0;
+        collected = 0;
+    }
+
+    private static int requirePositive(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+
+        return capacity;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.model.jose;
+
+/**
+ * Single pass scanner for candidate compact JWS and JWE objects within a block of text.
+ * <p>
+ * Text is treated as runs of base64url segments separated by '.'. A candidate starts at the first 'e' of a segment,
+ * as the base64url encoding of every JSON object header does, and is classified by the segments that follow it:
+ * <ul>
+ *     <li>five parts - header.encryptedKey.iv.ciphertext.tag, where the last three parts are non-empty</li>
+ *     <li>three parts - header.payload.signature, where the payload is non-empty and a trailing '.' is included</li>
+ * </ul>
+ * Each segment is examined a bounded number of times, so scanning is linear in the length of the text.
+ */
+class JOSEObjectScanner {
+    static final int JWS_PARTS = 3;
+    static final int JWE_PARTS = 5;
+
+    private final CharSequence text;
+    private final int length;
+    private final int[] segmentEnds;
+
+    private int position;
+    private int start;
+    private int end;
+    private int parts;
+
+    JOSEObjectScanner(CharSequence text) {
+        this.text = text;
+        this.length = text.length();
+        this.segmentEnds = new int[JWE_PARTS];
+    }
+
+    /**
+     * Advance to the next candidate
+     *
+     * @return false once the text is exhausted
+     */
+    boolean next() {
+        while (position < length) {
+            char c = text.charAt(position);
+
+            if (c != '.' && !isBase64UrlCharacter(c)) {
+                position++;
+                continue;
+            }
+
+            int segmentEnd = skipBase64Url(position);
+            int headerStart = indexOfE(position, segmentEnd);
+
+            if (headerStart >= 0 && classify(segmentEnd)) {
+                start = headerStart;
+                position = end;
+                return true;
+            }
+
+            position = segmentEnd < length && text.charAt(segmentEnd) == '.' ? segmentEnd + 1 : segmentEnd;
+        }
+
+        return false;
+    }
+
+    int start() {
+        return start;
+    }
+
+    int end() {
+        return end;
+    }
+
+    /**
+     * @return number of parts in the current candidate, either {@link #JWS_PARTS} or {@link #JWE_PARTS}
+     */
+    int parts() {
+        return parts;
+    }
+
+    String candidate() {
+        return text.subSequence(start, end).toString();
+    }
+
+    /**
+     * @return true if the whole of the text is a single candidate
+     */
+    boolean matchesAll() {
+        return next() && start == 0 && end == length;
+    }
+
+    // Classify the parts following a header ending at headerEnd, setting end and parts if they form a candidate
+    private boolean classify(int headerEnd) {
+        int partCount = 1;
+        int p = headerEnd;
+
+        segmentEnds[0] = headerEnd;
+
+        while (partCount < JWE_PARTS && p < length && text.charAt(p) == '.') {
+            p = skipBase64Url(p + 1);
+            segmentEnds[partCount++] = p;
+        }
+
+        if (partCount == JWE_PARTS && isNonEmpty(2) && isNonEmpty(3) && isNonEmpty(4)) {
+            end = segmentEnds[4];
+            parts = JWE_PARTS;
+            return true;
+        }
+
+        if (partCount >= JWS_PARTS && isNonEmpty(1)) {
+            end = segmentEnds[2];
+
+            if (end < length && (text.charAt(end) == '.' || text.charAt(end) == '^')) {
+                end++;
+            }
+
+            parts = JWS_PARTS;
+            return true;
+        }
+
+        return false;
+    }
+
+    // Part 0 is the header, each later part is preceded by a single '.'
+    private boolean isNonEmpty(int part) {
+        return segmentEnds[part] > segmentEnds[part - 1] + 1;
+    }
+
+    private int skipBase64Url(int from) {
+        int p = from;
+
+        while (p < length && isBase64UrlCharacter(text.charAt(p))) {
+            p++;
+        }
+
+        return p;
+    }
+
+    private int indexOfE(int from, int to) {
+        for (int p = from; p < to; p++) {
+            if (text.charAt(p) == 'e') {
+                return p;
+            }
+        }
+
+        return -1;
+    }
+
+    static boolean isBase64UrlCharacter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+    }
+}
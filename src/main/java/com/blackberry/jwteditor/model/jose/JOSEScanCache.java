@@ -0,0 +1,215 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2024 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.model.jose;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Least recently used cache of the JOSE objects found within recently scanned messages, keyed by a hash of each
+ * message's content. The same message is typically looked at by the proxy, the editors and the scanner in turn.
+ */
+public class JOSEScanCache {
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final Map<ContentKey, List<ScannedJOSEObject>> results;
+
+    private int capacity;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    JOSEScanCache(int capacity) {
+        this.capacity = requirePositive(capacity);
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ContentKey, List<ScannedJOSEObject>> eldest) {
+                boolean evict = size() > JOSEScanCache.this.capacity;
+
+                if (evict) {
+                    evictions++;
+                }
+
+                return evict;
+            }
+        };
+    }
+
+    synchronized List<ScannedJOSEObject> find(ContentKey key) {
+        List<ScannedJOSEObject> scanned = results.get(key);
+
+        if (scanned == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+
+        return scanned;
+    }
+
+    synchronized void put(ContentKey key, List<ScannedJOSEObject> scanned) {
+        results.put(key, List.copyOf(scanned));
+    }
+
+    /**
+     * Change the maximum number of messages whose results are kept, evicting the least recently used as required
+     *
+     * @param capacity maximum number of messages
+     */
+    public synchronized void setCapacity(int capacity) {
+        this.capacity = requirePositive(capacity);
+
+        var iterator = results.entrySet().iterator();
+
+        while (results.size() > capacity) {
+            iterator.next();
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    public synchronized int capacity() {
+        return capacity;
+    }
+
+    public synchronized int size() {
+        return results.size();
+    }
+
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    public synchronized long evictions() {
+        return evictions;
+    }
+
+    /**
+     * @return fraction of lookups answered from the cache, or zero if there have been no lookups
+     */
+    public synchronized double hitRate() {
+        long lookups = hits + misses;
+
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    public synchronized void clear() {
+        results.clear();
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    private static int requirePositive(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+
+        return capacity;
+    }
+
+    /**
+     * JOSE object found within a message. Parsed objects are immutable, so they can be shared between callers,
+     * each of which gets its own MutableJOSEObject.
+     */
+    record ScannedJOSEObject(String original, JOSEObject joseObject) {
+        MutableJOSEObject toMutableJOSEObject() {
+            return new MutableJOSEObject(original, joseObject);
+        }
+    }
+
+    /**
+     * SHA-256 hash of a message's content. Proxied messages are attacker controlled, so a weaker hash would let one
+     * message be crafted to collide with another and be served its JOSE objects. Characters are hashed as UTF-16,
+     * so equal content gives the same key whatever the CharSequence implementation.
+     */
+    public record ContentKey(long hash0, long hash1, long hash2, long hash3) {
+        private static final int BUFFER_SIZE = 8192;
+        private static final int HEX_LENGTH = 64;
+
+        public static ContentKey of(CharSequence text) {
+            MessageDigest digest = sha256();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int length = text.length();
+            int used = 0;
+
+            for (int i = 0; i < length; i++) {
+                char c = text.charAt(i);
+                buffer[used++] = (byte) (c >> 8);
+                buffer[used++] = (byte) c;
+
+                if (used == BUFFER_SIZE) {
+                    digest.update(buffer, 0, used);
+                    used = 0;
+                }
+            }
+
+            digest.update(buffer, 0, used);
+            ByteBuffer hash = ByteBuffer.wrap(digest.digest());
+
+            return new ContentKey(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+        }
+
+        /**
+         * Parse a key from its hex form
+         *
+         * @param hex hex form, as returned by toHex()
+         * @return the key
+         * @throws IllegalArgumentException if the hex form is invalid
+         */
+        public static ContentKey fromHex(String hex) {
+            if (hex.length() != HEX_LENGTH) {
+                throw new IllegalArgumentException("Invalid content key: " + hex);
+            }
+
+            return new ContentKey(
+                    HexFormat.fromHexDigitsToLong(hex, 0, 16),
+                    HexFormat.fromHexDigitsToLong(hex, 16, 32),
+                    HexFormat.fromHexDigitsToLong(hex, 32, 48),
+                    HexFormat.fromHexDigitsToLong(hex, 48, 64)
+            );
+        }
+
+        /**
+         * @return hex form of the SHA-256 hash
+         */
+        public String toHex() {
+            HexFormat hexFormat = HexFormat.of();
+
+            return hexFormat.toHexDigits(hash0) + hexFormat.toHexDigits(hash1) + hexFormat.toHexDigits(hash2) + hexFormat.toHexDigits(hash3);
+        }
+
+        private static MessageDigest sha256() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
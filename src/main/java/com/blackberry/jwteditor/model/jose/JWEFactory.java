@@ -33,6 +33,8 @@ import static com.blackberry.jwteditor.utils.StringUtils.countOccurrences;
 import static java.util.Arrays.stream;
 
 public class JWEFactory {
+    private static final JOSEObjectInterner<JWE> INTERNER = new JOSEObjectInterner<>(JOSEObjectInterner.DEFAULT_CAPACITY);
+
     public static JWE encrypt(JWS jws, Key key, JWEAlgorithm kek, EncryptionMethod cek) throws EncryptionException {
         JWEHeader header = new JWEHeader(kek, cek);
 
@@ -76,6 +78,12 @@ public class JWEFactory {
      * @throws ParseException if the value is not a valid JWE
      */
     public static JWE parse(String compactJWE) throws ParseException {
+        JWE interned = INTERNER.get(compactJWE);
+
+        if (interned != null) {
+            return interned;
+        }
+
         if (countOccurrences(compactJWE, '.') != 4) {
             throw new ParseException("Invalid number of encoded fields", 0);
         }
@@ -88,7 +96,10 @@ public class JWEFactory {
             throw new ParseException("All sections empty", 0);
         }
 
-        return new JWE(parts[0], parts[1], parts[2], parts[3], parts[4]);
+        JWE parsed = new JWE(parts[0], parts[1], parts[2], parts[3], parts[4]);
+        INTERNER.put(compactJWE, parsed);
+
+        return parsed;
     }
 
     /**
@@ -103,4 +114,13 @@ public class JWEFactory {
     public static JWE jweFromParts(Base64URL header, Base64URL encryptedKey, Base64URL iv, Base64URL ciphertext, Base64URL tag) {
        return new JWE(header, encryptedKey, iv, ciphertext, tag);
     }
+
+    /**
+     * Intern cache of parsed JWEs, for sizing and statistics
+     *
+     * @return the cache used by {@link #parse(String)}
+     */
+    public static JOSEObjectInterner<JWE> interner() {
+        return INTERNER;
+    }
 }
@@ -83,8 +83,23 @@ public class JWS extends JOSEObject {
      * @throws VerificationException if verification process fails
      */
     public boolean verify(Key key, JWSHeader verificationInfo) throws VerificationException {
-        JWSVerifier verifier = verifierFor(key, verificationInfo.getAlgorithm());
+        return verify(verifierFor(key, verificationInfo.getAlgorithm()), verificationInfo);
+    }
+
+    /**
+     * Verify JWS with a JWK and an algorithm, reusing a cached verifier where possible
+     *
+     * @param key              JWK for verification
+     * @param verificationInfo JWSHeader containing verification algorithm
+     * @param operationCache   cache of prepared verifiers
+     * @return result of signature verification
+     * @throws VerificationException if verification process fails
+     */
+    public boolean verify(Key key, JWSHeader verificationInfo, JWSOperationCache operationCache) throws VerificationException {
+        return verify(operationCache.verifier(key, verificationInfo.getAlgorithm()), verificationInfo);
+    }
 
+    private boolean verify(JWSVerifier verifier, JWSHeader verificationInfo) throws VerificationException {
         // Build the signing input
         // JWS signature input is the ASCII bytes of the base64 encoded header and payload concatenated with a '.'
         byte[] headerBytes = header.toString().getBytes(StandardCharsets.US_ASCII);
@@ -28,23 +28,35 @@ import static com.blackberry.jwteditor.utils.JSONUtils.isJsonObject;
 import static java.util.Collections.emptyList;
 
 public class JWSClaims extends Base64Encoded {
-    private final ClaimsType type;
-    private final List<TimeClaim> timeClaims;
+    // Derived from the payload on first use, so that objects which are only detected or counted never parse it
+    private volatile ClaimsType type;
+    private volatile List<TimeClaim> timeClaims;
 
     public JWSClaims(Base64URL encodedClaims) {
         super(encodedClaims);
-
-        this.type = isJsonObject(encodedClaims.decodeToString()) ? JSON : TEXT;
-        this.timeClaims = type == JSON
-                ? TimeClaimFactory.fromPayloadJson(encodedClaims.decodeToString())
-                : emptyList();
     }
 
     public ClaimsType type() {
-        return type;
+        ClaimsType result = type;
+
+        if (result == null) {
+            result = isJsonObject(decoded()) ? JSON : TEXT;
+            type = result;
+        }
+
+        return result;
     }
 
     public List<TimeClaim> timeClaims() {
-        return timeClaims;
+        List<TimeClaim> result = timeClaims;
+
+        if (result == null) {
+            result = type() == JSON
+                    ? TimeClaimFactory.fromPayloadJson(decoded())
+                    : emptyList();
+            timeClaims = result;
+        }
+
+        return result;
     }
 }
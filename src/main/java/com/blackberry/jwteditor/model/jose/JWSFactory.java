@@ -34,6 +34,8 @@ import static com.nimbusds.jose.HeaderParameterNames.*;
 import static java.util.Arrays.stream;
 
 public class JWSFactory {
+    private static final JOSEObjectInterner<JWS> INTERNER = new JOSEObjectInterner<>(JOSEObjectInterner.DEFAULT_CAPACITY);
+
     public enum SigningUpdateMode {
         DO_NOT_MODIFY_HEADER,
         UPDATE_ALGORITHM_ONLY,
@@ -87,6 +89,21 @@ public class JWSFactory {
         return signerFor(key, algorithm).sign(header, payload, new JWSHeader.Builder(algorithm).build());
     }
 
+    /**
+     * Sign a JWS, reusing a cached signer where possible
+     *
+     * @param operationCache cache of prepared signers
+     * @param key            key to sign with
+     * @param algorithm      signing algorithm
+     * @param header         the encoded header
+     * @param payload        the encoded payload
+     * @return the signed JWS
+     * @throws SigningException if signing fails
+     */
+    public static JWS sign(JWSOperationCache operationCache, Key key, JWSAlgorithm algorithm, Base64URL header, Base64URL payload) throws SigningException {
+        return operationCache.signer(key, algorithm).sign(header, payload, new JWSHeader.Builder(algorithm).build());
+    }
+
     /**
      * Parse a JWS from compact serialization
      *
@@ -95,6 +112,12 @@ public class JWSFactory {
      * @throws ParseException if parsing fails
      */
     public static JWS parse(String compactJWS) throws ParseException {
+        JWS interned = INTERNER.get(compactJWS);
+
+        if (interned != null) {
+            return interned;
+        }
+
         if (countOccurrences(compactJWS, '.') != 2) {
             throw new ParseException("Invalid number of encoded sections", 0);
         }
@@ -107,7 +130,10 @@ public class JWSFactory {
             throw new ParseException("All sections empty", 0);
         }
 
-        return new JWS(parts[0], parts[1], parts[2]);
+        JWS parsed = new JWS(parts[0], parts[1], parts[2]);
+        INTERNER.put(compactJWS, parsed);
+
+        return parsed;
     }
 
     /**
@@ -119,4 +145,13 @@ public class JWSFactory {
     public static JWS jwsFromParts(Base64URL header, Base64URL payload, Base64URL signature) {
         return new JWS(header, payload, signature);
     }
+
+    /**
+     * Intern cache of parsed JWSs, for sizing and statistics
+     *
+     * @return the cache used by {@link #parse(String)}
+     */
+    public static JOSEObjectInterner<JWS> interner() {
+        return INTERNER;
+    }
 }
@@ -0,0 +1,126 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2024 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.model.jose;
+
+import com.blackberry.jwteditor.exceptions.SigningException;
+import com.blackberry.jwteditor.exceptions.VerificationException;
+import com.blackberry.jwteditor.model.keys.Key;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSVerifier;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.blackberry.jwteditor.model.jose.JWSSignerFactory.signerFor;
+import static com.blackberry.jwteditor.model.jose.JWSVerifierFactory.verifierFor;
+
+/**
+ * Cache of prepared signers and verifiers per key ID and algorithm, so that repeated operations with the same key
+ * don't rebuild JCA keys each time. Entries remember the key they were built from, so a different key reusing an
+ * ID is never served a stale instance. Owners must invalidate a key ID when its key is removed or replaced.
+ */
+public class JWSOperationCache {
+    private final Map<CacheKey, CachedOperation<JWSSigner>> signers;
+    private final Map<CacheKey, CachedOperation<JWSVerifier>> verifiers;
+
+    private long hits;
+    private long misses;
+
+    public JWSOperationCache() {
+        this.signers = new HashMap<>();
+        this.verifiers = new HashMap<>();
+    }
+
+    JWSSigner signer(Key key, JWSAlgorithm algorithm) throws SigningException {
+        CacheKey cacheKey = new CacheKey(key.getID(), algorithm);
+        JWSSigner signer = lookup(signers, cacheKey, key);
+
+        if (signer == null) {
+            signer = signerFor(key, algorithm);
+            store(signers, cacheKey, new CachedOperation<>(key, signer));
+        }
+
+        return signer;
+    }
+
+    JWSVerifier verifier(Key key, JWSAlgorithm algorithm) throws VerificationException {
+        CacheKey cacheKey = new CacheKey(key.getID(), algorithm);
+        JWSVerifier verifier = lookup(verifiers, cacheKey, key);
+
+        if (verifier == null) {
+            verifier = verifierFor(key, algorithm);
+            store(verifiers, cacheKey, new CachedOperation<>(key, verifier));
+        }
+
+        return verifier;
+    }
+
+    /**
+     * Discard all signers and verifiers built for a key ID
+     *
+     * @param keyId ID of the key removed or replaced
+     */
+    public synchronized void invalidate(String keyId) {
+        signers.keySet().removeIf(cacheKey -> Objects.equals(cacheKey.keyId(), keyId));
+        verifiers.keySet().removeIf(cacheKey -> Objects.equals(cacheKey.keyId(), keyId));
+    }
+
+    public synchronized int size() {
+        return signers.size() + verifiers.size();
+    }
+
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    public synchronized void clear() {
+        signers.clear();
+        verifiers.clear();
+        hits = 0;
+        misses = 0;
+    }
+
+    private synchronized <T> T lookup(Map<CacheKey, CachedOperation<T>> operations, CacheKey cacheKey, Key key) {
+        CachedOperation<T> cached = operations.get(cacheKey);
+
+        if (cached != null && cached.key() == key) {
+            hits++;
+            return cached.operation();
+        }
+
+        misses++;
+        return null;
+    }
+
+    // Built outside the lock, so a racing lookup may build an instance twice, in which case the last one wins
+    private synchronized <T> void store(Map<CacheKey, CachedOperation<T>> operations, CacheKey cacheKey, CachedOperation<T> cached) {
+        operations.put(cacheKey, cached);
+    }
+
+    private record CacheKey(String keyId, JWSAlgorithm algorithm) {
+    }
+
+    private record CachedOperation<T>(Key key, T operation) {
+    }
+}
@@ -0,0 +1,89 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2024 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.model.keys;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Secondary index of keys by one or more terms derived from each key, preserving insertion order within each term.
+ * Not thread safe, callers must synchronize. Lookups return immutable snapshots that are only rebuilt after the
+ * keys for that term change, so repeated lookups are cheap.
+ *
+ * @param <T> type of term keys are indexed by
+ */
+class KeyIndex<T> {
+    private final Function<Key, Collection<T>> termsFunction;
+    private final Map<T, List<Key>> keysByTerm;
+    private final Map<T, List<Key>> snapshots;
+
+    KeyIndex(Function<Key, Collection<T>> termsFunction) {
+        this.termsFunction = termsFunction;
+        this.keysByTerm = new HashMap<>();
+        this.snapshots = new HashMap<>();
+    }
+
+    void add(Key key) {
+        for (T term : termsFunction.apply(key)) {
+            keysByTerm.computeIfAbsent(term, t -> new ArrayList<>()).add(key);
+            snapshots.remove(term);
+        }
+    }
+
+    void remove(Key key) {
+        for (T term : termsFunction.apply(key)) {
+            List<Key> keys = keysByTerm.get(term);
+
+            if (keys == null) {
+                continue;
+            }
+
+            keys.remove(key);
+
+            if (keys.isEmpty()) {
+                keysByTerm.remove(term);
+            }
+
+            snapshots.remove(term);
+        }
+    }
+
+    /**
+     * Re-index from scratch, used when a key is replaced in place and insertion order must be preserved
+     *
+     * @param keys all keys, in order
+     */
+    void rebuild(Collection<Key> keys) {
+        keysByTerm.clear();
+        snapshots.clear();
+        keys.forEach(this::add);
+    }
+
+    List<Key> get(T term) {
+        List<Key> keys = keysByTerm.get(term);
+
+        return keys == null ? emptyList() : snapshots.computeIfAbsent(term, t -> List.copyOf(keys));
+    }
+}
@@ -22,35 +22,97 @@ import com.blackberry.jwteditor.exceptions.DecryptionException;
 import com.blackberry.jwteditor.exceptions.VerificationException;
 import com.blackberry.jwteditor.model.jose.JWE;
 import com.blackberry.jwteditor.model.jose.JWS;
+import com.blackberry.jwteditor.model.jose.JWSOperationCache;
 import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
 
+import org.json.JSONException;
+
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class KeyRing {
+    // Below this many key and algorithm pairs, verifying on the calling thread beats handing off to the executor
+    static final int PARALLEL_THRESHOLD = 8;
+
     private final List<Key> keys;
+    private final JWSOperationCache operationCache;
+    private final ExecutorService executor;
 
     public KeyRing(List<Key> keys) {
+        this(keys, new JWSOperationCache(), null);
+    }
+
+    /**
+     * @param keys           keys to verify and decrypt with
+     * @param operationCache cache of prepared verifiers
+     * @param executor       executor to verify large sets of keys on, or null to verify on the calling thread
+     */
+    public KeyRing(List<Key> keys, JWSOperationCache operationCache, ExecutorService executor) {
         this.keys = keys;
+        this.operationCache = operationCache;
+        this.executor = executor;
+    }
+
+    /**
+     * Create an executor for verifying JWSs, to be shared by all key rings and shut down when the extension unloads
+     *
+     * @return executor with a daemon thread per processor
+     */
+    public static ExecutorService newVerifierExecutor() {
+        return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new VerifierThreadFactory());
     }
 
+    /**
+     * Find a key that verifies the JWS. Pairs of key and algorithm that match the header's key ID or algorithm are
+     * tried first, as they are the most likely to succeed. As the header may have been tampered with, all remaining
+     * pairs are then tried. Each set of pairs is verified in parallel, stopping once the result is known. The key
+     * returned is always that of the first verifying pair in this order, regardless of which finishes first.
+     *
+     * @param jws JWS to verify
+     * @return the first key that verifies the JWS, if any
+     */
     public Optional<Key> findVerifyingKey(JWS jws) {
+        String headerKeyId;
+        String headerAlgorithm;
+
+        try {
+            headerKeyId = jws.header().keyId();
+            headerAlgorithm = jws.header().algorithm();
+        } catch (JSONException e) {
+            headerKeyId = "";
+            headerAlgorithm = "";
+        }
+
+        List<Candidate> preferred = new ArrayList<>();
+        List<Candidate> remaining = new ArrayList<>();
+
         for (Key key : keys) {
+            // A matching algorithm implies a matching key type, as keys only offer algorithms they support
+            boolean keyIdMatches = !headerKeyId.isEmpty() && headerKeyId.equals(key.getID());
+
             for (JWSAlgorithm signingAlgorithm : key.getSigningAlgorithms()) {
-                JWSHeader verificationInfo = new JWSHeader.Builder(signingAlgorithm).build();
-                try {
-                    if (jws.verify(key, verificationInfo)) {
-                        return Optional.of(key);
-                    }
-                } catch (VerificationException e) {
-                    // Verification failed for this key & algorithm pair
+                Candidate candidate = new Candidate(key, signingAlgorithm);
+
+                if (keyIdMatches || signingAlgorithm.getName().equals(headerAlgorithm)) {
+                    preferred.add(candidate);
+                } else {
+                    remaining.add(candidate);
                 }
             }
         }
 
-        return Optional.empty();
+        Optional<Key> key = findVerifyingKey(jws, preferred);
+
+        return key.isPresent() ? key : findVerifyingKey(jws, remaining);
     }
 
     public Optional<JWS> attemptDecryption(JWE jwe) throws ParseException {
@@ -64,4 +126,69 @@ public class KeyRing {
 
         return Optional.empty();
     }
+
+    private Optional<Key> findVerifyingKey(JWS jws, List<Candidate> candidates) {
+        if (executor == null || candidates.size() < PARALLEL_THRESHOLD) {
+            return candidates.stream()
+                    .filter(candidate -> candidate.verifies(jws, operationCache))
+                    .map(Candidate::key)
+                    .findFirst();
+        }
+
+        List<Future<Boolean>> results = candidates.stream()
+                .map(candidate -> executor.submit(() -> candidate.verifies(jws, operationCache)))
+                .toList();
+
+        try {
+            // Wait in candidate order, so a later pair finishing first can't change the result
+            for (int i = 0; i < results.size(); i++) {
+                if (verified(results.get(i))) {
+                    return Optional.of(candidates.get(i).key());
+                }
+            }
+
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } finally {
+            // Stop any pairs after the first verifying one
+            results.forEach(result -> result.cancel(true));
+        }
+    }
+
+    private static boolean verified(Future<Boolean> result) throws InterruptedException {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            return false;
+        }
+    }
+
+    private record Candidate(Key key, JWSAlgorithm algorithm) {
+        boolean verifies(JWS jws, JWSOperationCache operationCache) {
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+
+            try {
+                return jws.verify(key, new JWSHeader.Builder(algorithm).build(), operationCache);
+            } catch (VerificationException e) {
+                // Verification failed for this key & algorithm pair
+                return false;
+            }
+        }
+    }
+
+    private static class VerifierThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "JWT Editor verifier " + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
 }
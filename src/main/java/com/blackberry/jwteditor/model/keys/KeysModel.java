@@ -19,16 +19,21 @@ limitations under the License.
 package com.blackberry.jwteditor.model.keys;
 
 import com.blackberry.jwteditor.exceptions.UnsupportedKeyException;
+import com.blackberry.jwteditor.model.jose.JWSOperationCache;
+import com.nimbusds.jose.JOSEException;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.IntStream;
 
+import static java.util.Collections.emptySet;
 import static java.util.Collections.unmodifiableCollection;
 
 /**
@@ -36,14 +41,24 @@ import static java.util.Collections.unmodifiableCollection;
  */
 public class KeysModel implements KeysRepository {
     private final Map<String, Key> keys;
+    private final List<Key> orderedKeys;
+    private final KeyIndex<Capability> capabilityIndex;
+    private final KeyIndex<KeyType> keyTypeIndex;
+    private final KeyIndex<String> thumbprintIndex;
     private final Object lock;
+    private final JWSOperationCache operationCache;
 
     private final List<KeysModelListener> modelListeners;
 
     public KeysModel() {
         this.keys = new LinkedHashMap<>();
+        this.orderedKeys = new ArrayList<>();
+        this.capabilityIndex = new KeyIndex<>(Capability::of);
+        this.keyTypeIndex = new KeyIndex<>(key -> key instanceof JWKKey jwkKey ? Set.of(jwkKey.getKeyType()) : emptySet());
+        this.thumbprintIndex = new KeyIndex<>(KeysModel::thumbprint);
         this.modelListeners = new ArrayList<>();
         this.lock = new Object();
+        this.operationCache = new JWSOperationCache();
     }
 
     public Iterable<Key> keys() {
@@ -91,28 +106,48 @@ public class KeysModel implements KeysRepository {
     @Override
     public List<Key> getSigningKeys() {
         synchronized (lock) {
-            return keys.values().stream().filter(Key::canSign).toList();
+            return capabilityIndex.get(Capability.SIGN);
         }
     }
 
     @Override
     public List<Key> getVerificationKeys() {
         synchronized (lock) {
-            return keys.values().stream().filter(Key::canVerify).toList();
+            return capabilityIndex.get(Capability.VERIFY);
         }
     }
 
     @Override
     public List<Key> getEncryptionKeys() {
         synchronized (lock) {
-            return keys.values().stream().filter(Key::canEncrypt).toList();
+            return capabilityIndex.get(Capability.ENCRYPT);
         }
     }
 
     @Override
     public List<Key> getDecryptionKeys() {
         synchronized (lock) {
-            return keys.values().stream().filter(Key::canDecrypt).toList();
+            return capabilityIndex.get(Capability.DECRYPT);
+        }
+    }
+
+    /**
+     * @param keyType type of key
+     * @return keys of the given type, in insertion order
+     */
+    public List<Key> getKeys(KeyType keyType) {
+        synchronized (lock) {
+            return keyTypeIndex.get(keyType);
+        }
+    }
+
+    /**
+     * @param thumbprint base64url encoded RFC 7638 SHA-256 thumbprint
+     * @return keys with the given thumbprint, which may include both the private and public forms of a key
+     */
+    public List<Key> getKeysWithThumbprint(String thumbprint) {
+        synchronized (lock) {
+            return thumbprintIndex.get(thumbprint);
         }
     }
 
@@ -121,6 +156,23 @@ public class KeysModel implements KeysRepository {
 
         synchronized (lock) {
             oldKey = keys.put(key.getID(), key);
+
+            if (oldKey == null) {
+                orderedKeys.add(key);
+                capabilityIndex.add(key);
+                keyTypeIndex.add(key);
+                thumbprintIndex.add(key);
+            } else {
+                // Replaced keys keep their position, so re-index to preserve order
+                orderedKeys.set(orderedKeys.indexOf(oldKey), key);
+                capabilityIndex.rebuild(orderedKeys);
+                keyTypeIndex.rebuild(orderedKeys);
+                thumbprintIndex.rebuild(orderedKeys);
+            }
+        }
+
+        if (oldKey != null) {
+            operationCache.invalidate(oldKey.getID());
         }
 
         for (KeysModelListener modelListener : modelListeners) {
@@ -132,28 +184,23 @@ public class KeysModel implements KeysRepository {
         }
     }
 
-    private int findIndexOfKeyWithId(String id) {
-        int i = 0;
-
-        for (Key key : keys.values()) {
-            if (key.getID().equals(id)) {
-                return i;
-            }
-
-            i++;
-        }
-
-        return -1;
-    }
-
     public void deleteKey(String keyId) {
         int rowIndex;
 
         synchronized (lock) {
-            rowIndex = findIndexOfKeyWithId(keyId);
-            keys.remove(keyId);
+            Key key = keys.remove(keyId);
+            rowIndex = key == null ? -1 : orderedKeys.indexOf(key);
+
+            if (rowIndex >= 0) {
+                orderedKeys.remove(rowIndex);
+                capabilityIndex.remove(key);
+                keyTypeIndex.remove(key);
+                thumbprintIndex.remove(key);
+            }
         }
 
+        operationCache.invalidate(keyId);
+
         if (rowIndex >= 0) {
             for (KeysModelListener modelListener : this.modelListeners) {
                 modelListener.notifyKeyDeleted(rowIndex);
@@ -173,8 +220,7 @@ public class KeysModel implements KeysRepository {
 
     public Key getKey(int index) {
         synchronized (lock) {
-            String key = (String) keys.keySet().toArray()[index];
-            return keys.get(key);
+            return orderedKeys.get(index);
         }
     }
 
@@ -185,9 +231,60 @@ public class KeysModel implements KeysRepository {
         }
     }
 
+    /**
+     * Cache of signers and verifiers for the keys in this model, invalidated as keys are replaced or deleted
+     *
+     * @return the operation cache
+     */
+    @Override
+    public JWSOperationCache operationCache() {
+        return operationCache;
+    }
+
     public boolean keyExists(String keyId) {
         synchronized (lock) {
             return keys.get(keyId) != null;
         }
     }
+
+    private static Set<String> thumbprint(Key key) {
+        if (!(key instanceof JWKKey jwkKey)) {
+            return emptySet();
+        }
+
+        try {
+            return Set.of(jwkKey.getJWK().computeThumbprint().toString());
+        } catch (JOSEException e) {
+            return emptySet();
+        }
+    }
+
+    private enum Capability {
+        SIGN,
+        VERIFY,
+        ENCRYPT,
+        DECRYPT;
+
+        static Set<Capability> of(Key key) {
+            Set<Capability> capabilities = EnumSet.noneOf(Capability.class);
+
+            if (key.canSign()) {
+                capabilities.add(SIGN);
+            }
+
+            if (key.canVerify()) {
+                capabilities.add(VERIFY);
+            }
+
+            if (key.canEncrypt()) {
+                capabilities.add(ENCRYPT);
+            }
+
+            if (key.canDecrypt()) {
+                capabilities.add(DECRYPT);
+            }
+
+            return capabilities;
+        }
+    }
 }
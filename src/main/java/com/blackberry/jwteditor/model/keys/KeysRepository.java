@@ -18,6 +18,8 @@ limitations under the License.
 
 package com.blackberry.jwteditor.model.keys;
 
+import com.blackberry.jwteditor.model.jose.JWSOperationCache;
+
 import java.util.List;
 
 public interface KeysRepository {
@@ -30,4 +32,6 @@ public interface KeysRepository {
     List<Key> getDecryptionKeys();
 
     Key getKey(String keyId);
+
+    JWSOperationCache operationCache();
 }
@@ -0,0 +1,158 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2024 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.model.persistence;
+
+import com.blackberry.jwteditor.model.keys.KeysModel;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Write-behind decorator that coalesces saves made within a time window into a single save, performed on a
+ * background thread. A bulk import of n keys therefore serializes the model a handful of times rather than n times,
+ * and never on the calling thread. Pending changes are written by {@link #flush()} and {@link #close()}.
+ */
+public class WriteBehindKeysModelPersistence implements KeysModelPersistence {
+    public static final long DEFAULT_DELAY_MILLIS = 500;
+
+    private final KeysModelPersistence delegate;
+    private final ScheduledExecutorService executor;
+    private final long delayMillis;
+    private final Object writeLock;
+
+    private KeysModel pendingModel;
+    private ScheduledFuture<?> pendingSave;
+    private long requests;
+    private long writes;
+
+    public WriteBehindKeysModelPersistence(KeysModelPersistence delegate) {
+        this(delegate, DEFAULT_DELAY_MILLIS);
+    }
+
+    WriteBehindKeysModelPersistence(KeysModelPersistence delegate, long delayMillis) {
+        this.delegate = delegate;
+        this.delayMillis = delayMillis;
+        this.writeLock = new Object();
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "JWT Editor key persistence");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public KeysModel loadOrCreateNew() {
+        return delegate.loadOrCreateNew();
+    }
+
+    /**
+     * Schedule the model to be saved. The window starts at the first unsaved change and is not extended by later
+     * ones, so a continuous stream of changes is still saved at least once per window.
+     *
+     * @param model model to save
+     */
+    @Override
+    public void save(KeysModel model) {
+        synchronized (this) {
+            requests++;
+            pendingModel = model;
+
+            if (pendingSave != null) {
+                return;
+            }
+
+            if (!executor.isShutdown()) {
+                pendingSave = executor.schedule(this::writePending, delayMillis, MILLISECONDS);
+                return;
+            }
+        }
+
+        writePending();
+    }
+
+    /**
+     * Write any pending changes immediately, on the calling thread
+     */
+    public void flush() {
+        synchronized (this) {
+            if (pendingSave != null) {
+                pendingSave.cancel(false);
+            }
+        }
+
+        writePending();
+    }
+
+    /**
+     * Write any pending changes and stop the background thread. Later saves are written through immediately.
+     */
+    public void close() {
+        synchronized (this) {
+            executor.shutdown();
+        }
+
+        flush();
+
+        try {
+            executor.awaitTermination(1, SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return number of saves requested
+     */
+    public synchronized long requests() {
+        return requests;
+    }
+
+    /**
+     * @return number of saves written through to the underlying persistence
+     */
+    public synchronized long writes() {
+        return writes;
+    }
+
+    // Writes are serialized so that an older snapshot can never overwrite a newer one. Saves requested while
+    // writing only take the monitor briefly, so they schedule another write rather than block on serialization.
+    private void writePending() {
+        synchronized (writeLock) {
+            KeysModel model;
+
+            synchronized (this) {
+                model = pendingModel;
+                pendingModel = null;
+                pendingSave = null;
+
+                if (model == null) {
+                    return;
+                }
+
+                writes++;
+            }
+
+            delegate.save(model);
+        }
+    }
+}
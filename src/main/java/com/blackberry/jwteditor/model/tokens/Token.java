@@ -18,9 +18,12 @@ limitations under the License.
 
 package com.blackberry.jwteditor.model.tokens;
 
+import com.blackberry.jwteditor.model.jose.JOSEScanCache.ContentKey;
 import com.blackberry.jwteditor.model.jose.JWS;
 import com.blackberry.jwteditor.model.jose.JWSClaims;
 
+import java.util.function.Supplier;
+
 import static com.blackberry.jwteditor.model.jose.ClaimsType.JSON;
 import static com.blackberry.jwteditor.utils.JSONUtils.prettyPrintJSON;
 
@@ -28,13 +31,69 @@ public class Token {
     private final int id;
     private final String host;
     private final String path;
-    private final JWS jws;
+    private final String algorithm;
+    private final String keyId;
+    private final Supplier<JWS> jwsLoader;
+
+    private volatile JWS jws;
+    private volatile ContentKey contentKey;
+    private volatile String weakSecret;
+    private volatile long firstSeen;
+    private volatile long lastSeen;
+    private volatile long hitCount;
 
     public Token(int id, String host, String path, JWS jws) {
         this.host = host;
         this.path = path;
         this.jws = jws;
         this.id = id;
+        this.algorithm = null;
+        this.keyId = null;
+        this.jwsLoader = null;
+    }
+
+    /**
+     * Construct a token whose JWS is only loaded when first required, for tokens restored from storage
+     *
+     * @param id        token ID
+     * @param host      host the token was seen on
+     * @param path      path the token was seen on
+     * @param algorithm algorithm from the token header
+     * @param keyId     key ID from the token header
+     * @param jwsLoader loads the JWS on first use
+     */
+    public Token(int id, String host, String path, String algorithm, String keyId, Supplier<JWS> jwsLoader) {
+        this(id, host, path, algorithm, keyId, null, 0, 0, 0, null, jwsLoader);
+    }
+
+    /**
+     * Construct a token restored from storage along with the proxy's sightings of it and any weak secret found
+     *
+     * @param id         token ID
+     * @param host       host the token was seen on
+     * @param path       path the token was seen on
+     * @param algorithm  algorithm from the token header
+     * @param keyId      key ID from the token header
+     * @param contentKey hash of the compact form, or null to compute it from the JWS when required
+     * @param hitCount   number of times the token has been seen by the proxy
+     * @param firstSeen  time the token was first seen by the proxy, or zero if it never has been
+     * @param lastSeen   time the token was last seen by the proxy, or zero if it never has been
+     * @param weakSecret HMAC secret found by a weak secret audit, or null if none has been found
+     * @param jwsLoader  loads the JWS on first use
+     */
+    public Token(int id, String host, String path, String algorithm, String keyId, ContentKey contentKey,
+                 long hitCount, long firstSeen, long lastSeen, String weakSecret, Supplier<JWS> jwsLoader) {
+        this.host = host;
+        this.path = path;
+        this.id = id;
+        this.algorithm = algorithm;
+        this.keyId = keyId;
+        this.contentKey = contentKey;
+        this.hitCount = hitCount;
+        this.firstSeen = firstSeen;
+        this.lastSeen = lastSeen;
+        this.weakSecret = weakSecret;
+        this.jwsLoader = jwsLoader;
     }
 
     public int id() {
@@ -50,19 +109,88 @@ public class Token {
     }
 
     public String algorithm() {
-        return jws.header().algorithm();
+        return algorithm == null ? parsedJws().header().algorithm() : algorithm;
     }
 
     public String keyId() {
-        return jws.header().keyId();
+        return keyId == null ? parsedJws().header().keyId() : keyId;
     }
 
     public String jws() {
-        return jws.serialize();
+        return parsedJws().serialize();
+    }
+
+    public JWS parsedJws() {
+        JWS result = jws;
+
+        // Loading is idempotent, so racing threads at worst load the JWS twice
+        if (result == null) {
+            result = jwsLoader.get();
+            jws = result;
+        }
+
+        return result;
+    }
+
+    /**
+     * @return hash of the token's compact form, which identifies the token across sessions
+     */
+    public ContentKey contentKey() {
+        ContentKey result = contentKey;
+
+        // Hashing is idempotent, so racing threads at worst hash the token twice
+        if (result == null) {
+            result = ContentKey.of(jws());
+            contentKey = result;
+        }
+
+        return result;
+    }
+
+    /**
+     * @return HMAC secret found by a weak secret audit, or null if none has been found
+     */
+    public String weakSecret() {
+        return weakSecret;
+    }
+
+    void setWeakSecret(String weakSecret) {
+        this.weakSecret = weakSecret;
+    }
+
+    /**
+     * @return time the token was first seen by the proxy in milliseconds since the epoch, or zero if it never has been
+     */
+    public long firstSeen() {
+        return firstSeen;
+    }
+
+    /**
+     * @return time the token was last seen by the proxy in milliseconds since the epoch, or zero if it never has been
+     */
+    public long lastSeen() {
+        return lastSeen;
+    }
+
+    /**
+     * @return number of times the token has been seen by the proxy
+     */
+    public long hitCount() {
+        return hitCount;
+    }
+
+    // Callers synchronize, so the counters are updated together
+    void recordHit(long timestamp) {
+        if (hitCount == 0) {
+            firstSeen = timestamp;
+        }
+
+        lastSeen = timestamp;
+        hitCount++;
     }
 
     public String claims() {
-        JWSClaims claims = jws.claims();
+        JWSClaims claims = parsedJws().claims();
         String decodedClaim = claims.decoded();
 
         return claims.type() == JSON ? prettyPrintJSON(decodedClaim) : decodedClaim;
@@ -0,0 +1,138 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.model.tokens;
+
+import com.blackberry.jwteditor.model.jose.JOSEScanCache.ContentKey;
+import com.blackberry.jwteditor.model.jose.JWS;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Adds JWS seen in proxied traffic to a tokens model. Each distinct token is added once, keyed by a hash of its
+ * compact form, and later sightings only update its counters. Once the maximum number of tokens has been captured,
+ * further new tokens are counted and dropped, so memory stays bounded however much traffic passes through the proxy.
+ * <p>
+ * Tokens already in the model, such as those restored from a previous session, are indexed on the first capture, so
+ * sightings of them continue their counters rather than adding duplicates, and they count towards the maximum.
+ */
+public class TokenCapture {
+    public static final int DEFAULT_MAX_TOKENS = 10_000;
+
+    private final TokensModel tokensModel;
+    private final TokenIdGenerator tokenIdGenerator;
+    private final int maxTokens;
+    private final LongSupplier clock;
+    private final Map<ContentKey, CapturedToken> capturedTokens;
+
+    private boolean modelIndexed;
+    private long hits;
+    private long dropped;
+
+    public TokenCapture(TokensModel tokensModel, TokenIdGenerator tokenIdGenerator) {
+        this(tokensModel, tokenIdGenerator, DEFAULT_MAX_TOKENS, System::currentTimeMillis);
+    }
+
+    TokenCapture(TokensModel tokensModel, TokenIdGenerator tokenIdGenerator, int maxTokens, LongSupplier clock) {
+        this.tokensModel = tokensModel;
+        this.tokenIdGenerator = tokenIdGenerator;
+        this.maxTokens = maxTokens;
+        this.clock = clock;
+        this.capturedTokens = new HashMap<>();
+    }
+
+    /**
+     * Record a sighting of a JWS, adding it to the model if it has not been seen before
+     *
+     * @param host host the token was seen on
+     * @param path path the token was seen on
+     * @param jws  the token
+     */
+    public void capture(String host, String path, JWS jws) {
+        ContentKey key = ContentKey.of(jws.serialize());
+        long timestamp = clock.getAsLong();
+        CapturedToken captured;
+
+        synchronized (this) {
+            indexModelTokens();
+            captured = capturedTokens.get(key);
+
+            if (captured == null) {
+                if (capturedTokens.size() >= maxTokens) {
+                    dropped++;
+                    return;
+                }
+
+                // New tokens are rare compared to sightings of known ones, so holding the monitor while the token is
+                // added keeps its index consistent without contending with the common case
+                Token token = new Token(tokenIdGenerator.next(), host, path, jws);
+                token.recordHit(timestamp);
+                capturedTokens.put(key, new CapturedToken(token, tokensModel.append(token)));
+                return;
+            }
+
+            hits++;
+        }
+
+        tokensModel.recordHit(captured.token(), captured.index(), timestamp);
+    }
+
+    /**
+     * @return number of distinct tokens captured
+     */
+    public synchronized int size() {
+        indexModelTokens();
+        return capturedTokens.size();
+    }
+
+    /**
+     * @return number of sightings of tokens already captured
+     */
+    public synchronized long hits() {
+        return hits;
+    }
+
+    /**
+     * @return number of sightings of new tokens dropped as the maximum number of tokens had been captured
+     */
+    public synchronized long dropped() {
+        return dropped;
+    }
+
+    // Deferred until the first capture, as indexing reads every stored page
+    private void indexModelTokens() {
+        if (modelIndexed) {
+            return;
+        }
+
+        List<Token> tokens = tokensModel.tokens();
+
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+            capturedTokens.putIfAbsent(token.contentKey(), new CapturedToken(token, i));
+        }
+
+        modelIndexed = true;
+    }
+
+    private record CapturedToken(Token token, int index) {
+    }
+}
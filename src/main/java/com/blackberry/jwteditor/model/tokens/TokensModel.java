@@ -18,12 +18,13 @@ limitations under the License.
 
 package com.blackberry.jwteditor.model.tokens;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.concurrent.CopyOnWriteArrayList;
 
-import static java.util.Collections.unmodifiableList;
-
 public class TokensModel implements TokenRepository {
     private final List<Token> tokens;
     private final Object lock;
@@ -39,9 +40,35 @@ public class TokensModel implements TokenRepository {
         this.modelListeners = new CopyOnWriteArrayList<>();
     }
 
+    /**
+     * Snapshot of the tokens added so far, which is safe to iterate while the proxy adds further tokens. Tokens are
+     * only ever appended, so the snapshot is a fixed length view of the list rather than a copy, and tokens that are
+     * loaded lazily are only loaded when read.
+     *
+     * @return the tokens
+     */
     public List<Token> tokens() {
         synchronized (lock) {
-            return unmodifiableList(tokens);
+            return new TokensSnapshot(tokens.size());
+        }
+    }
+
+    /**
+     * @return number of tokens
+     */
+    public int size() {
+        synchronized (lock) {
+            return tokens.size();
+        }
+    }
+
+    /**
+     * @param index index of the token
+     * @return the token
+     */
+    public Token getToken(int index) {
+        synchronized (lock) {
+            return tokens.get(index);
         }
     }
 
@@ -51,12 +78,87 @@ public class TokensModel implements TokenRepository {
 
     @Override
     public void add(Token token) {
+        append(token);
+    }
+
+    /**
+     * Add a token, returning its position so that later updates need not search for it. Tokens are never removed,
+     * so the position remains valid.
+     *
+     * @param token the token
+     * @return index of the token
+     */
+    int append(Token token) {
+        int index;
+
         synchronized (lock) {
             tokens.add(token);
+            index = tokens.size() - 1;
         }
 
         for (TokensModelListener modelListener : modelListeners) {
             modelListener.notifyTokenInserted(token);
         }
+
+        return index;
+    }
+
+    /**
+     * Record that a token has been seen again
+     *
+     * @param token     the token
+     * @param index     index of the token, as returned when it was added
+     * @param timestamp time the token was seen in milliseconds since the epoch
+     */
+    void recordHit(Token token, int index, long timestamp) {
+        synchronized (lock) {
+            token.recordHit(timestamp);
+        }
+
+        for (TokensModelListener modelListener : modelListeners) {
+            modelListener.notifyTokenUpdated(index);
+        }
+    }
+
+    /**
+     * Record the HMAC secret found for a token
+     *
+     * @param token the token
+     * @param weakSecret the secret used to sign the token
+     */
+    public void setWeakSecret(Token token, String weakSecret) {
+        int index;
+
+        synchronized (lock) {
+            token.setWeakSecret(weakSecret);
+            index = tokens.indexOf(token);
+        }
+
+        if (index < 0) {
+            return;
+        }
+
+        for (TokensModelListener modelListener : modelListeners) {
+            modelListener.notifyTokenUpdated(index);
+        }
+    }
+
+    private class TokensSnapshot extends AbstractList<Token> implements RandomAccess {
+        private final int size;
+
+        private TokensSnapshot(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public Token get(int index) {
+            Objects.checkIndex(index, size);
+            return getToken(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
     }
 }
@@ -22,4 +22,6 @@ public interface TokensModelListener {
     void notifyTokenInserted(Token token);
 
     void notifyTokenDeleted(int index);
+
+    void notifyTokenUpdated(int index);
 }
@@ -0,0 +1,145 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.operations.weak;
+
+import com.blackberry.jwteditor.model.jose.JWS;
+import com.blackberry.jwteditor.model.tokens.Token;
+
+import java.security.MessageDigest;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * Tests each candidate secret against many tokens at once. Tokens are grouped by algorithm, so the key is set up
+ * once per algorithm, and by signing input, so the MAC is computed once for tokens sharing a header and payload.
+ */
+class BatchSecretTester {
+    private final List<AlgorithmGroup> algorithmGroups;
+    private final AtomicInteger pending;
+
+    BatchSecretTester(List<Token> tokens) {
+        Map<HmacAlgorithm, Map<String, SigningInputGroup>> groups = new EnumMap<>(HmacAlgorithm.class);
+        int targetCount = 0;
+
+        for (Token token : tokens) {
+            // Filter on the stored algorithm first, so only HMAC signed tokens are loaded and parsed
+            Optional<HmacAlgorithm> algorithm = HmacAlgorithm.find(token.algorithm());
+
+            if (algorithm.isEmpty()) {
+                continue;
+            }
+
+            JWS jws = token.parsedJws();
+            byte[] signingInput = WeakSecretTester.signingInput(jws);
+
+            groups.computeIfAbsent(algorithm.get(), a -> new LinkedHashMap<>())
+                    .computeIfAbsent(new String(signingInput, US_ASCII), s -> new SigningInputGroup(signingInput))
+                    .targets.add(new Target(token, jws.signature().encoded().decode()));
+
+            targetCount++;
+        }
+
+        this.algorithmGroups = groups.entrySet().stream()
+                .map(entry -> new AlgorithmGroup(entry.getKey(), List.copyOf(entry.getValue().values())))
+                .toList();
+        this.pending = new AtomicInteger(targetCount);
+    }
+
+    int pending() {
+        return pending.get();
+    }
+
+    /**
+     * Test a candidate secret against every token whose secret has not yet been found
+     *
+     * @param secret buffer containing the candidate
+     * @param offset offset of the candidate within the buffer
+     * @param length length of the candidate in bytes
+     * @param onFound called once for each token signed with the candidate
+     */
+    void test(byte[] secret, int offset, int length, SecretFoundListener onFound) {
+        for (AlgorithmGroup algorithmGroup : algorithmGroups) {
+            HmacContext context = algorithmGroup.algorithm.context();
+
+            if (!algorithmGroup.hasPendingTargets() || !context.init(secret, offset, length)) {
+                continue;
+            }
+
+            for (SigningInputGroup signingInputGroup : algorithmGroup.signingInputGroups) {
+                if (!signingInputGroup.hasPendingTargets()) {
+                    continue;
+                }
+
+                byte[] mac = context.compute(signingInputGroup.signingInput);
+
+                for (Target target : signingInputGroup.targets) {
+                    if (!target.found.get() && MessageDigest.isEqual(mac, target.signature) && target.found.compareAndSet(false, true)) {
+                        pending.decrementAndGet();
+                        onFound.secretFound(target.token);
+                    }
+                }
+            }
+        }
+    }
+
+    interface SecretFoundListener {
+        void secretFound(Token token);
+    }
+
+    private record AlgorithmGroup(HmacAlgorithm algorithm, List<SigningInputGroup> signingInputGroups) {
+        boolean hasPendingTargets() {
+            return signingInputGroups.stream().anyMatch(SigningInputGroup::hasPendingTargets);
+        }
+    }
+
+    private static class SigningInputGroup {
+        private final byte[] signingInput;
+        private final List<Target> targets;
+
+        private SigningInputGroup(byte[] signingInput) {
+            this.signingInput = signingInput;
+            this.targets = new ArrayList<>();
+        }
+
+        boolean hasPendingTargets() {
+            for (Target target : targets) {
+                if (!target.found.get()) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+
+    private static class Target {
+        private final Token token;
+        private final byte[] signature;
+        private final AtomicBoolean found;
+
+        private Target(Token token, byte[] signature) {
+            this.token = token;
+            this.signature = signature;
+            this.found = new AtomicBoolean();
+        }
+    }
+}
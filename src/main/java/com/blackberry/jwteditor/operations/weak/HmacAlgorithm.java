@@ -0,0 +1,52 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.operations.weak;
+
+import java.util.Optional;
+
+import static java.util.Arrays.stream;
+
+enum HmacAlgorithm {
+    HS256("HmacSHA256"),
+    HS384("HmacSHA384"),
+    HS512("HmacSHA512");
+
+    private final ThreadLocal<HmacContext> context;
+
+    HmacAlgorithm(String jcaName) {
+        this.context = ThreadLocal.withInitial(() -> new HmacContext(jcaName));
+    }
+
+    /**
+     * @return the calling thread's reusable context for this algorithm
+     */
+    HmacContext context() {
+        return context.get();
+    }
+
+    static Optional<HmacAlgorithm> find(String algorithm) {
+        return stream(values())
+                .filter(hmacAlgorithm -> hmacAlgorithm.name().equals(algorithm))
+                .findFirst();
+    }
+
+    static HmacAlgorithm from(String algorithm) {
+        return find(algorithm).orElseThrow(() -> new IllegalArgumentException("Unsupported HMAC algorithm: " + algorithm));
+    }
+}
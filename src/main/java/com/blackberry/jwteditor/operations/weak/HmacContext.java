@@ -0,0 +1,96 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.operations.weak;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Reusable Mac and output buffer, confined to a single thread
+ */
+class HmacContext {
+    private static final byte[] EMPTY_SECRET_EQUIVALENT = new byte[1];
+
+    private final String jcaName;
+    private final Mac mac;
+    private final byte[] output;
+
+    HmacContext(String jcaName) {
+        this.jcaName = jcaName;
+
+        try {
+            this.mac = Mac.getInstance(jcaName);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        this.output = new byte[mac.getMacLength()];
+    }
+
+    int macLength() {
+        return output.length;
+    }
+
+    /**
+     * Initialise the Mac with a region of a buffer as the key
+     *
+     * @param key buffer containing the key
+     * @param offset offset of the key within the buffer
+     * @param length length of the key in bytes
+     * @return false if the key was rejected
+     */
+    boolean init(byte[] key, int offset, int length) {
+        try {
+            // HMAC zero pads keys shorter than the block size, so a single zero byte is equivalent to an empty key
+            SecretKeySpec keySpec = length == 0
+                    ? new SecretKeySpec(EMPTY_SECRET_EQUIVALENT, jcaName)
+                    : new SecretKeySpec(key, offset, length, jcaName);
+
+            mac.init(keySpec);
+            return true;
+        } catch (InvalidKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Compute the MAC of the input with the current key
+     *
+     * @param input data to authenticate
+     * @return buffer containing the MAC, overwritten by the next call
+     */
+    byte[] compute(byte[] input) {
+        mac.update(input);
+
+        try {
+            mac.doFinal(output, 0);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+
+        return output;
+    }
+
+    boolean matches(byte[] input, byte[] signature) {
+        return MessageDigest.isEqual(compute(input), signature);
+    }
+}
@@ -0,0 +1,205 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.operations.weak;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Read-only, memory-mapped view of a wordlist in the indexed binary format written by IndexedWordlistWriter.
+ * <p>
+ * Layout: magic, secret count and maximum secret length (all ints), an int offset per secret relative to the start
+ * of the data section, then the data section containing each secret as an int length followed by its UTF-8 bytes.
+ */
+class IndexedWordlist {
+    static final int MAGIC = 0x4A574C31;
+    static final int HEADER_SIZE = 3 * Integer.BYTES;
+
+    private static final String BUNDLED_WORDLIST_RESOURCE = "/jwt.secrets.list.txt";
+    private static final String CACHE_DIRECTORY = "jwt-editor";
+
+    private static IndexedWordlist bundledWordlist;
+
+    private final Path path;
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int maxSecretLength;
+    private final int dataOffset;
+
+    private IndexedWordlist(Path path, ByteBuffer buffer) throws IOException {
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not an indexed wordlist: " + path);
+        }
+
+        this.path = path;
+        this.buffer = buffer;
+        this.size = buffer.getInt(Integer.BYTES);
+        this.maxSecretLength = buffer.getInt(2 * Integer.BYTES);
+        this.dataOffset = HEADER_SIZE + size * Integer.BYTES;
+
+        if (size < 0 || maxSecretLength < 0 || dataOffset > buffer.limit()) {
+            throw new IOException("Corrupt indexed wordlist: " + path);
+        }
+    }
+
+    static IndexedWordlist open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Indexed wordlist too large to map: " + path);
+            }
+
+            // The mapping remains valid once the channel is closed
+            MappedByteBuffer buffer = channel.map(READ_ONLY, 0, channel.size());
+            return new IndexedWordlist(path, buffer);
+        }
+    }
+
+    /**
+     * Get the indexed form of the wordlist bundled with the extension, converting it on first use.
+     * The index is cached in the temporary directory under a name derived from the wordlist contents,
+     * so later sessions reuse it rather than converting the wordlist again.
+     *
+     * @return the bundled wordlist
+     */
+    static synchronized IndexedWordlist bundled() {
+        if (bundledWordlist == null) {
+            try (InputStream inputStream = IndexedWordlist.class.getResourceAsStream(BUNDLED_WORDLIST_RESOURCE)) {
+                byte[] wordlist = inputStream.readAllBytes();
+                Path cacheDirectory = Path.of(System.getProperty("java.io.tmpdir"), CACHE_DIRECTORY);
+
+                bundledWordlist = cached(wordlist, cacheDirectory);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        return bundledWordlist;
+    }
+
+    /**
+     * Open the cached index of a wordlist, writing it first if it is missing or unreadable
+     *
+     * @param textWordlist newline separated UTF-8 wordlist
+     * @param cacheDirectory directory holding cached indexes
+     * @return the indexed wordlist
+     * @throws IOException if the index could not be written or opened
+     */
+    static IndexedWordlist cached(byte[] textWordlist, Path cacheDirectory) throws IOException {
+        Path path = cacheDirectory.resolve("secrets-%s.idx".formatted(contentHash(textWordlist)));
+
+        if (Files.isRegularFile(path)) {
+            try {
+                return open(path);
+            } catch (IOException e) {
+                // Fall through and rewrite the index
+            }
+        }
+
+        Files.createDirectories(cacheDirectory);
+
+        // Write alongside the final location and move into place, so concurrent sessions never open a partial index
+        Path temporaryPath = Files.createTempFile(cacheDirectory, "secrets-", ".tmp");
+
+        try {
+            IndexedWordlistWriter.write(new ByteArrayInputStream(textWordlist), temporaryPath);
+            Files.move(temporaryPath, path, ATOMIC_MOVE, REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporaryPath);
+        }
+
+        return open(path);
+    }
+
+    private static String contentHash(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int maxSecretLength() {
+        return maxSecretLength;
+    }
+
+    /**
+     * Copy the UTF-8 bytes of a secret into a buffer of at least maxSecretLength() bytes
+     *
+     * @param index index of the secret
+     * @param destination buffer to copy the secret into
+     * @return length of the secret in bytes
+     */
+    int read(int index, byte[] destination) {
+        int position = position(index);
+        int length = buffer.getInt(position);
+
+        buffer.get(position + Integer.BYTES, destination, 0, length);
+
+        return length;
+    }
+
+    /**
+     * Append a secret to a chunk
+     *
+     * @param index index of the secret
+     * @param chunk chunk to add the secret to
+     */
+    void read(int index, SecretChunk chunk) {
+        int position = position(index);
+        int length = buffer.getInt(position);
+        int offset = chunk.reserve(length);
+
+        buffer.get(position + Integer.BYTES, chunk.data(), offset, length);
+    }
+
+    String secret(int index) {
+        byte[] secret = new byte[buffer.getInt(position(index))];
+        read(index, secret);
+
+        return new String(secret, UTF_8);
+    }
+
+    private int position(int index) {
+        return dataOffset + buffer.getInt(HEADER_SIZE + index * Integer.BYTES);
+    }
+}
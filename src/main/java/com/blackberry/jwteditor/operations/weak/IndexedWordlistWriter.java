@@ -0,0 +1,89 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.operations.weak;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static com.blackberry.jwteditor.operations.weak.IndexedWordlist.MAGIC;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Converts newline separated UTF-8 wordlists into the indexed binary format read by IndexedWordlist
+ */
+class IndexedWordlistWriter {
+
+    static void write(Path textWordlist, Path destination) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(textWordlist)) {
+            write(inputStream, destination);
+        }
+    }
+
+    static void write(InputStream textWordlist, Path destination) throws IOException {
+        Path dataFile = Files.createTempFile("jwt-editor-secrets", ".data");
+
+        try {
+            int[] offsets = new int[1024];
+            int count = 0;
+            int maxSecretLength = 0;
+            long dataLength = 0;
+
+            // Write the data section first, as the index has to precede it
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(textWordlist, UTF_8));
+                 DataOutputStream data = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(dataFile)))) {
+                String line;
+
+                while ((line = reader.readLine()) != null) {
+                    byte[] secret = line.getBytes(UTF_8);
+
+                    if (count == offsets.length) {
+                        offsets = Arrays.copyOf(offsets, count * 2);
+                    }
+
+                    offsets[count++] = (int) dataLength;
+                    maxSecretLength = Math.max(maxSecretLength, secret.length);
+
+                    data.writeInt(secret.length);
+                    data.write(secret);
+                    dataLength += Integer.BYTES + secret.length;
+
+                    if (IndexedWordlist.HEADER_SIZE + (long) count * Integer.BYTES + dataLength > Integer.MAX_VALUE) {
+                        throw new IOException("Wordlist too large to index");
+                    }
+                }
+            }
+
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(destination)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(count);
+                output.writeInt(maxSecretLength);
+
+                for (int i = 0; i < count; i++) {
+                    output.writeInt(offsets[i]);
+                }
+
+                Files.copy(dataFile, output);
+            }
+        } finally {
+            Files.deleteIfExists(dataFile);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.operations.weak;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Hashcat style mask, e.g. ?l?l?d?d, describing the bytes permitted at each position of a secret.
+ * Supports the ?l, ?u, ?d, ?s and ?a charsets, ?? for a literal question mark and literal characters.
+ */
+class Mask {
+    private static final byte[] LOWER = "abcdefghijklmnopqrstuvwxyz".getBytes(UTF_8);
+    private static final byte[] UPPER = "ABCDEFGHIJKLMNOPQRSTUVWXYZ".getBytes(UTF_8);
+    private static final byte[] DIGITS = "0123456789".getBytes(UTF_8);
+    private static final byte[] SPECIAL = " !\"#$%&'()*+,-./:;<=>?@[\\]^_`{|}~".getBytes(UTF_8);
+    private static final byte[] ALL = "%s%s%s%s".formatted(
+            new String(LOWER, UTF_8),
+            new String(UPPER, UTF_8),
+            new String(DIGITS, UTF_8),
+            new String(SPECIAL, UTF_8)
+    ).getBytes(UTF_8);
+
+    private final List<byte[]> positions;
+    private final long size;
+
+    private Mask(List<byte[]> positions) {
+        this.positions = positions;
+
+        long keyspaceSize = 1;
+
+        for (byte[] charset : positions) {
+            keyspaceSize = Math.multiplyExact(keyspaceSize, charset.length);
+        }
+
+        this.size = keyspaceSize;
+    }
+
+    /**
+     * Parse a mask
+     *
+     * @param mask the mask
+     * @return the parsed mask
+     * @throws IllegalArgumentException if the mask is invalid or its keyspace is too large
+     */
+    static Mask parse(String mask) {
+        List<byte[]> positions = new ArrayList<>();
+        int[] codePoints = mask.codePoints().toArray();
+
+        for (int i = 0; i < codePoints.length; i++) {
+            if (codePoints[i] != '?') {
+                for (byte b : Character.toString(codePoints[i]).getBytes(UTF_8)) {
+                    positions.add(new byte[]{b});
+                }
+
+                continue;
+            }
+
+            if (++i == codePoints.length) {
+                throw new IllegalArgumentException("Mask ends with an incomplete charset: " + mask);
+            }
+
+            positions.add(switch (codePoints[i]) {
+                case 'l' -> LOWER;
+                case 'u' -> UPPER;
+                case 'd' -> DIGITS;
+                case 's' -> SPECIAL;
+                case 'a' -> ALL;
+                case '?' -> new byte[]{'?'};
+                default -> throw new IllegalArgumentException("Unknown charset ?%s in mask: %s".formatted(Character.toString(codePoints[i]), mask));
+            });
+        }
+
+        if (positions.isEmpty()) {
+            throw new IllegalArgumentException("Mask is empty");
+        }
+
+        try {
+            return new Mask(positions);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Mask keyspace too large: " + mask);
+        }
+    }
+
+    int length() {
+        return positions.size();
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * @param position index of a position within the mask
+     * @return true if more than one byte is permitted at the position, false if it is a literal
+     */
+    boolean isCharset(int position) {
+        return positions.get(position).length > 1;
+    }
+
+    /**
+     * @param length number of leading positions to keep
+     * @return mask matching the leading positions of this mask
+     */
+    Mask prefix(int length) {
+        return new Mask(positions.subList(0, length));
+    }
+
+    /**
+     * Append the candidate at an index within the mask's keyspace to a chunk
+     *
+     * @param index index between 0 and size() - 1
+     * @param chunk chunk to append the candidate to
+     */
+    void write(long index, SecretChunk chunk) {
+        int length = positions.size();
+        int offset = chunk.reserve(length);
+        byte[] data = chunk.data();
+
+        for (int position = length - 1; position >= 0; position--) {
+            byte[] charset = positions.get(position);
+
+            data[offset + position] = charset[(int) (index % charset.length)];
+            index /= charset.length;
+        }
+    }
+}
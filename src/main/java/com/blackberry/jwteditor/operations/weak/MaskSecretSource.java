@@ -0,0 +1,111 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.operations.weak;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Enumerates every candidate matching a mask, shortest first. Each mask prefix ending in a charset position is
+ * enumerated in turn, followed by the full mask, so a run of literals is never split. For example, abc?d yields
+ * abc0 to abc9, while ?dxy yields 0 to 9 then 0xy to 9xy. Workers claim disjoint index ranges of the combined
+ * keyspace, which can be resumed from a previously saved index.
+ */
+class MaskSecretSource implements SecretSource {
+    private final List<Mask> masks;
+    private final long size;
+    private final long startIndex;
+    private final RangeClaims claims;
+    private final AtomicLong counter;
+
+    MaskSecretSource(Mask mask, long startIndex) {
+        this.masks = new ArrayList<>();
+
+        long keyspaceSize = 0;
+
+        for (int length = 1; length <= mask.length(); length++) {
+            if (length < mask.length() && !mask.isCharset(length - 1)) {
+                continue;
+            }
+
+            Mask prefix = mask.prefix(length);
+            masks.add(prefix);
+            keyspaceSize = Math.addExact(keyspaceSize, prefix.size());
+        }
+
+        if (startIndex < 0 || startIndex > keyspaceSize) {
+            throw new IllegalArgumentException("Start index outside of keyspace: " + startIndex);
+        }
+
+        this.size = keyspaceSize;
+        this.startIndex = startIndex;
+        this.claims = new RangeClaims(startIndex, keyspaceSize);
+        this.counter = new AtomicLong();
+    }
+
+    long size() {
+        return size;
+    }
+
+    @Override
+    public boolean fill(SecretChunk chunk, int chunkSize) {
+        RangeClaims.Range range = claims.claim(chunkSize);
+
+        chunk.clear();
+
+        for (long index = range.start(); index < range.end(); index++) {
+            write(index, chunk);
+        }
+
+        return !range.isEmpty();
+    }
+
+    @Override
+    public void markTested(int count) {
+        counter.addAndGet(count);
+        claims.release(count);
+    }
+
+    @Override
+    public long tested() {
+        return counter.get();
+    }
+
+    @Override
+    public double progress() {
+        return size == 0 ? 1.0 : Math.min(1.0, (double) (startIndex + counter.get()) / size);
+    }
+
+    @Override
+    public long resumePosition() {
+        return claims.resumePosition();
+    }
+
+    private void write(long index, SecretChunk chunk) {
+        for (Mask mask : masks) {
+            if (index < mask.size()) {
+                mask.write(index, chunk);
+                return;
+            }
+
+            index -= mask.size();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.operations.weak;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Expands the words of another source with mutation rules. Candidates are generated lazily by each worker as it
+ * fills its chunk, so the expanded keyspace is never materialised and generation scales with the worker pool.
+ */
+class MutatingSecretSource implements SecretSource {
+    private final SecretSource words;
+    private final List<MutationRule> rules;
+    private final int candidatesPerWord;
+    private final ThreadLocal<SecretChunk> wordChunks;
+    private final ThreadLocal<int[]> wordEnds;
+    private final AtomicLong counter;
+
+    MutatingSecretSource(SecretSource words, List<MutationRule> rules) {
+        this.words = words;
+        this.rules = rules;
+        this.candidatesPerWord = rules.stream().mapToInt(MutationRule::maxCandidates).sum();
+        this.wordChunks = ThreadLocal.withInitial(SecretChunk::new);
+        this.wordEnds = ThreadLocal.withInitial(() -> new int[0]);
+        this.counter = new AtomicLong();
+    }
+
+    @Override
+    public boolean fill(SecretChunk chunk, int chunkSize) throws IOException {
+        SecretChunk wordChunk = wordChunks.get();
+
+        if (!words.fill(wordChunk, Math.max(1, chunkSize / candidatesPerWord))) {
+            return false;
+        }
+
+        int[] ends = wordEnds.get();
+
+        if (ends.length < wordChunk.size()) {
+            ends = new int[wordChunk.size()];
+            wordEnds.set(ends);
+        }
+
+        chunk.clear();
+
+        for (int i = 0; i < wordChunk.size(); i++) {
+            for (MutationRule rule : rules) {
+                rule.apply(wordChunk.data(), wordChunk.offset(i), wordChunk.length(i), chunk);
+            }
+
+            ends[i] = chunk.size();
+        }
+
+        return true;
+    }
+
+    /**
+     * Words are only marked as tested once every candidate derived from them has been tested,
+     * so a search resumed from the words source never skips a partially tested word
+     */
+    @Override
+    public void markTested(int count) {
+        counter.addAndGet(count);
+
+        int[] ends = wordEnds.get();
+        int wordCount = wordChunks.get().size();
+        int testedWords = 0;
+
+        while (testedWords < wordCount && ends[testedWords] <= count) {
+            testedWords++;
+        }
+
+        words.markTested(testedWords);
+    }
+
+    @Override
+    public long tested() {
+        return counter.get();
+    }
+
+    @Override
+    public double progress() {
+        return words.progress();
+    }
+
+    @Override
+    public long resumePosition() {
+        return words.resumePosition();
+    }
+
+    @Override
+    public void close() throws IOException {
+        words.close();
+    }
+}
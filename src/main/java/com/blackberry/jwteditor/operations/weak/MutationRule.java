@@ -0,0 +1,39 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.operations.weak;
+
+/**
+ * Rule deriving candidate secrets from a wordlist entry
+ */
+interface MutationRule {
+    /**
+     * Append the candidates derived from a word to a chunk
+     *
+     * @param word buffer containing the word
+     * @param offset offset of the word within the buffer
+     * @param length length of the word in bytes
+     * @param output chunk to append candidates to
+     */
+    void apply(byte[] word, int offset, int length, SecretChunk output);
+
+    /**
+     * @return maximum number of candidates the rule derives from a single word
+     */
+    int maxCandidates();
+}
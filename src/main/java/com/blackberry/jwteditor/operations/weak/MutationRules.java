@@ -0,0 +1,216 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.operations.weak;
+
+import com.blackberry.jwteditor.model.jose.JWS;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.*;
+
+import static com.blackberry.jwteditor.model.jose.ClaimsType.JSON;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Hashcat style mutation rules for weak secret candidates
+ */
+class MutationRules {
+    private static final List<String> TOKEN_CLAIMS = List.of("iss", "aud");
+
+    /**
+     * Build the standard rule set for a token: the word itself, case changes, leetspeak, one and two digit suffixes
+     * and suffixes taken from the token's kid, iss and aud values
+     *
+     * @param jws token being attacked
+     * @return the rules to apply to each word
+     */
+    static List<MutationRule> forToken(JWS jws) {
+        List<MutationRule> rules = new ArrayList<>(List.of(CaseRule.values()));
+        rules.add(AppendRule.digits());
+
+        AppendRule tokenValues = AppendRule.of(tokenValues(jws));
+
+        if (tokenValues.maxCandidates() > 0) {
+            rules.add(tokenValues);
+        }
+
+        return rules;
+    }
+
+    static Set<String> tokenValues(JWS jws) {
+        Set<String> values = new LinkedHashSet<>();
+
+        try {
+            values.add(jws.header().keyId());
+        } catch (JSONException ignored) {
+        }
+
+        if (jws.claims().type() == JSON) {
+            try {
+                JSONObject claims = new JSONObject(jws.claims().decoded());
+
+                for (String claim : TOKEN_CLAIMS) {
+                    Object value = claims.opt(claim);
+
+                    if (value instanceof String stringValue) {
+                        values.add(stringValue);
+                    } else if (value instanceof JSONArray arrayValue) {
+                        arrayValue.forEach(element -> {
+                            if (element instanceof String stringElement) {
+                                values.add(stringElement);
+                            }
+                        });
+                    }
+                }
+            } catch (JSONException ignored) {
+            }
+        }
+
+        values.remove("");
+
+        return values;
+    }
+
+    enum CaseRule implements MutationRule {
+        IDENTITY {
+            @Override
+            byte transform(byte b, int position) {
+                return b;
+            }
+        },
+        LOWERCASE {
+            @Override
+            byte transform(byte b, int position) {
+                return isUpper(b) ? (byte) (b + CASE_OFFSET) : b;
+            }
+        },
+        UPPERCASE {
+            @Override
+            byte transform(byte b, int position) {
+                return isLower(b) ? (byte) (b - CASE_OFFSET) : b;
+            }
+        },
+        CAPITALIZE {
+            @Override
+            byte transform(byte b, int position) {
+                return position == 0 ? UPPERCASE.transform(b, position) : LOWERCASE.transform(b, position);
+            }
+        },
+        TOGGLE_CASE {
+            @Override
+            byte transform(byte b, int position) {
+                return isUpper(b) ? (byte) (b + CASE_OFFSET) : UPPERCASE.transform(b, position);
+            }
+        },
+        LEETSPEAK {
+            @Override
+            byte transform(byte b, int position) {
+                return switch (b) {
+                    case 'a', 'A' -> (byte) '4';
+                    case 'e', 'E' -> (byte) '3';
+                    case 'i', 'I' -> (byte) '1';
+                    case 'o', 'O' -> (byte) '0';
+                    case 's', 'S' -> (byte) '5';
+                    case 't', 'T' -> (byte) '7';
+                    default -> b;
+                };
+            }
+        };
+
+        private static final int CASE_OFFSET = 'a' - 'A';
+
+        abstract byte transform(byte b, int position);
+
+        @Override
+        public void apply(byte[] word, int offset, int length, SecretChunk output) {
+            // Only the identity rule may emit the word unchanged, to avoid testing duplicates
+            if (this != IDENTITY && !changes(word, offset, length)) {
+                return;
+            }
+
+            int outputOffset = output.reserve(length);
+            byte[] data = output.data();
+
+            for (int i = 0; i < length; i++) {
+                data[outputOffset + i] = transform(word[offset + i], i);
+            }
+        }
+
+        @Override
+        public int maxCandidates() {
+            return 1;
+        }
+
+        private boolean changes(byte[] word, int offset, int length) {
+            for (int i = 0; i < length; i++) {
+                if (transform(word[offset + i], i) != word[offset + i]) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        private static boolean isUpper(byte b) {
+            return b >= 'A' && b <= 'Z';
+        }
+
+        private static boolean isLower(byte b) {
+            return b >= 'a' && b <= 'z';
+        }
+    }
+
+    record AppendRule(List<byte[]> suffixes) implements MutationRule {
+
+        static AppendRule digits() {
+            List<byte[]> suffixes = new ArrayList<>();
+
+            for (int i = 0; i < 10; i++) {
+                suffixes.add(Integer.toString(i).getBytes(UTF_8));
+            }
+
+            for (int i = 0; i < 100; i++) {
+                suffixes.add("%02d".formatted(i).getBytes(UTF_8));
+            }
+
+            return new AppendRule(suffixes);
+        }
+
+        static AppendRule of(Collection<String> values) {
+            return new AppendRule(values.stream().map(value -> value.getBytes(UTF_8)).toList());
+        }
+
+        @Override
+        public void apply(byte[] word, int offset, int length, SecretChunk output) {
+            for (byte[] suffix : suffixes) {
+                int outputOffset = output.reserve(length + suffix.length);
+                byte[] data = output.data();
+
+                System.arraycopy(word, offset, data, outputOffset, length);
+                System.arraycopy(suffix, 0, data, outputOffset + length, suffix.length);
+            }
+        }
+
+        @Override
+        public int maxCandidates() {
+            return suffixes.size();
+        }
+    }
+}
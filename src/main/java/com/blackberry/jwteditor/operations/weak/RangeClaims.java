@@ -0,0 +1,134 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.operations.weak;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out disjoint, ascending index ranges to workers and tracks which are still being tested,
+ * so that a search can be resumed without skipping untested candidates.
+ * <p>
+ * Ranges are claimed without locking by advancing a shared cursor. Each thread publishes the start of its claim in a
+ * slot of its own, and the untested remainder of a range left part way through is recorded before the claim is cleared.
+ * resumePosition() reads the cursor, then the slots, then the remainders, so every untested index is below at least
+ * one of the values it sees.
+ */
+class RangeClaims {
+    private static final long NONE = Long.MAX_VALUE;
+
+    private final long end;
+    private final AtomicLong cursor;
+    private final Queue<AtomicLong> claimSlots;
+    private final ThreadLocal<AtomicLong> threadSlot;
+    private final ThreadLocal<Range> claimedByThread;
+    private final ConcurrentSkipListSet<Long> remainders;
+
+    RangeClaims(long start, long end) {
+        this.end = end;
+        this.cursor = new AtomicLong(Math.min(start, end));
+        this.claimSlots = new ConcurrentLinkedQueue<>();
+        this.threadSlot = ThreadLocal.withInitial(() -> {
+            AtomicLong slot = new AtomicLong(NONE);
+            claimSlots.add(slot);
+            return slot;
+        });
+        this.claimedByThread = new ThreadLocal<>();
+        this.remainders = new ConcurrentSkipListSet<>();
+    }
+
+    /**
+     * Claim the next range for the calling thread
+     *
+     * @param maxSize maximum size of the range
+     * @return the claimed range, empty once all indices have been handed out
+     */
+    Range claim(int maxSize) {
+        Range unreleased = claimedByThread.get();
+
+        if (unreleased != null) {
+            claimedByThread.remove();
+            remainders.add(unreleased.start());
+        }
+
+        AtomicLong slot = threadSlot.get();
+
+        // Publish a lower bound before advancing the cursor, so the claim is never invisible to resumePosition()
+        slot.set(cursor.get());
+        long start = cursor.getAndAdd(maxSize);
+
+        if (start >= end) {
+            slot.set(NONE);
+            return new Range(end, end);
+        }
+
+        Range range = new Range(start, start + Math.min(maxSize, end - start));
+        slot.set(start);
+        claimedByThread.set(range);
+
+        return range;
+    }
+
+    /**
+     * Release the range claimed by the calling thread once its leading indices have been tested.
+     * Any untested remainder is kept, so a search stopped part way through a range resumes where it left off.
+     *
+     * @param tested number of indices tested from the start of the range
+     */
+    void release(long tested) {
+        Range claimed = claimedByThread.get();
+
+        if (claimed == null) {
+            return;
+        }
+
+        claimedByThread.remove();
+
+        long untested = claimed.start() + Math.max(0, tested);
+
+        // Record the remainder before clearing the slot, the reverse of the order resumePosition() reads them in
+        if (untested < claimed.end()) {
+            remainders.add(untested);
+        }
+
+        threadSlot.get().set(NONE);
+    }
+
+    /**
+     * @return lowest index that may not have been tested yet
+     */
+    long resumePosition() {
+        long position = Math.min(cursor.get(), end);
+
+        for (AtomicLong slot : claimSlots) {
+            position = Math.min(position, slot.get());
+        }
+
+        // Remainders are never removed, so the set cannot empty between these calls
+        return remainders.isEmpty() ? position : Math.min(position, remainders.first());
+    }
+
+    record Range(long start, long end) {
+        boolean isEmpty() {
+            return start >= end;
+        }
+    }
+}
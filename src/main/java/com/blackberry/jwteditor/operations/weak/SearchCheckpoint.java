@@ -0,0 +1,83 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.operations.weak;
+
+import com.blackberry.jwteditor.model.jose.JWS;
+
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Position reached by a weak secret search, from which the search can be resumed
+ *
+ * @param token SHA-256 hash of the compact serialization of the attacked JWS
+ * @param wordlistType source of candidate secrets
+ * @param wordlist path of the wordlist file or the mask, empty for the bundled wordlist
+ * @param mutationRules whether words are expanded with mutation rules
+ * @param position index of the first word or mask candidate that may not have been tested
+ */
+public record SearchCheckpoint(String token, WordlistType wordlistType, String wordlist, boolean mutationRules, long position) {
+
+    public enum WordlistType {
+        BUNDLED,
+        FILE,
+        MASK
+    }
+
+    public static SearchCheckpoint bundled(JWS jws, boolean mutationRules) {
+        return new SearchCheckpoint(hash(jws), WordlistType.BUNDLED, "", mutationRules, 0);
+    }
+
+    public static SearchCheckpoint file(JWS jws, Path wordlist, boolean mutationRules) {
+        return new SearchCheckpoint(hash(jws), WordlistType.FILE, wordlist.toAbsolutePath().toString(), mutationRules, 0);
+    }
+
+    public static SearchCheckpoint mask(JWS jws, String mask, long startIndex) {
+        return new SearchCheckpoint(hash(jws), WordlistType.MASK, mask, false, startIndex);
+    }
+
+    /**
+     * @param position new position within the search
+     * @return checkpoint for the same search at another position
+     */
+    public SearchCheckpoint at(long position) {
+        return new SearchCheckpoint(token, wordlistType, wordlist, mutationRules, position);
+    }
+
+    /**
+     * @param other another checkpoint
+     * @return true if both checkpoints are for the same token, wordlist and rules, regardless of position
+     */
+    public boolean isSameSearch(SearchCheckpoint other) {
+        return at(0).equals(other.at(0));
+    }
+
+    private static String hash(JWS jws) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(jws.serialize().getBytes(UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
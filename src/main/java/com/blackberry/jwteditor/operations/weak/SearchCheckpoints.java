@@ -0,0 +1,80 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.operations.weak;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Most recent checkpoints of weak secret searches, one per combination of token, wordlist and rules
+ */
+public class SearchCheckpoints {
+    static final int MAX_CHECKPOINTS = 32;
+
+    private final Map<SearchCheckpoint, SearchCheckpoint> checkpoints;
+
+    private long modifications;
+
+    public SearchCheckpoints() {
+        this(List.of());
+    }
+
+    public SearchCheckpoints(List<SearchCheckpoint> checkpoints) {
+        this.checkpoints = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SearchCheckpoint, SearchCheckpoint> eldest) {
+                return size() > MAX_CHECKPOINTS;
+            }
+        };
+
+        checkpoints.forEach(this::save);
+    }
+
+    /**
+     * @param search search to look up, the position is ignored
+     * @return the last saved checkpoint for the search, if any
+     */
+    public synchronized Optional<SearchCheckpoint> find(SearchCheckpoint search) {
+        return Optional.ofNullable(checkpoints.get(search.at(0)));
+    }
+
+    public synchronized void save(SearchCheckpoint checkpoint) {
+        checkpoints.put(checkpoint.at(0), checkpoint);
+        modifications++;
+    }
+
+    public synchronized void remove(SearchCheckpoint search) {
+        checkpoints.remove(search.at(0));
+        modifications++;
+    }
+
+    /**
+     * @return number of times the checkpoints have been changed, so that callers can tell whether they need saving
+     */
+    public synchronized long modifications() {
+        return modifications;
+    }
+
+    public synchronized List<SearchCheckpoint> checkpoints() {
+        return new ArrayList<>(checkpoints.values());
+    }
+}
@@ -0,0 +1,122 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.operations.weak;
+
+import burp.api.montoya.logging.Logging;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Worker pulling chunks of candidates from a shared source until it is exhausted or the search stops running
+ */
+class SearchWorker implements ErrorLoggingRunnable.Task {
+    static final int CHUNK_SIZE = 256;
+
+    interface CandidateTester {
+        /**
+         * Test a candidate from a chunk
+         *
+         * @param chunk chunk containing the candidate
+         * @param index index of the candidate within the chunk
+         * @return true if the worker should stop testing its chunk
+         */
+        boolean test(SecretChunk chunk, int index) throws Exception;
+    }
+
+    private final WeakSecretsFinderModel model;
+    private final SecretSource secretSource;
+    private final CandidateTester tester;
+    private final AtomicInteger activeWorkers;
+    private final WeakSecretsFinderStatus exhaustedStatus;
+
+    private SearchWorker(
+            WeakSecretsFinderModel model,
+            SecretSource secretSource,
+            CandidateTester tester,
+            AtomicInteger activeWorkers,
+            WeakSecretsFinderStatus exhaustedStatus) {
+        this.model = model;
+        this.secretSource = secretSource;
+        this.tester = tester;
+        this.activeWorkers = activeWorkers;
+        this.exhaustedStatus = exhaustedStatus;
+    }
+
+    /**
+     * Submit a pool of workers sharing a source of candidates
+     *
+     * @param executorService executor to run the workers on
+     * @param logging logging for any worker errors
+     * @param workerCount number of workers
+     * @param model model tracking the status and progress of the search
+     * @param secretSource source of candidates
+     * @param testerFactory creates a tester for each worker
+     * @param exhaustedStatus status recorded if the candidates run out before any other outcome is recorded
+     */
+    static void start(
+            ExecutorService executorService,
+            Logging logging,
+            int workerCount,
+            WeakSecretsFinderModel model,
+            SecretSource secretSource,
+            Supplier<CandidateTester> testerFactory,
+            WeakSecretsFinderStatus exhaustedStatus) {
+        AtomicInteger activeWorkers = new AtomicInteger(workerCount);
+
+        for (int i = 0; i < workerCount; i++) {
+            SearchWorker worker = new SearchWorker(model, secretSource, testerFactory.get(), activeWorkers, exhaustedStatus);
+            executorService.submit(new ErrorLoggingRunnable(logging, worker));
+        }
+    }
+
+    @Override
+    public void action() throws Exception {
+        try {
+            testChunks();
+        } finally {
+            // The last worker to finish reports the candidates running out if no other outcome has been recorded
+            if (activeWorkers.decrementAndGet() == 0) {
+                model.finishWith(exhaustedStatus);
+                secretSource.close();
+            }
+        }
+    }
+
+    private void testChunks() throws Exception {
+        SecretChunk chunk = new SecretChunk();
+
+        while (model.isRunning() && secretSource.fill(chunk, CHUNK_SIZE)) {
+            int tested = 0;
+
+            for (int i = 0; i < chunk.size() && model.isRunning(); i++) {
+                tested++;
+
+                if (tester.test(chunk, i)) {
+                    break;
+                }
+            }
+
+            secretSource.markTested(tested);
+            model.setProgress(secretSource.progress(), secretSource.tested());
+            model.setResumePosition(secretSource.resumePosition());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.operations.weak;
+
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Reusable batch of secrets packed into a single byte array, owned by one worker
+ */
+class SecretChunk {
+    private byte[] data;
+    private int[] offsets;
+    private int[] lengths;
+    private int size;
+    private int used;
+
+    SecretChunk() {
+        this.data = new byte[4096];
+        this.offsets = new int[256];
+        this.lengths = new int[256];
+    }
+
+    void clear() {
+        size = 0;
+        used = 0;
+    }
+
+    /**
+     * Reserve space for a secret at the end of the chunk
+     *
+     * @param length length of the secret in bytes
+     * @return offset within data() at which the secret's bytes must be written
+     */
+    int reserve(int length) {
+        if (size == offsets.length) {
+            offsets = Arrays.copyOf(offsets, size * 2);
+            lengths = Arrays.copyOf(lengths, size * 2);
+        }
+
+        if (used + length > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, used + length));
+        }
+
+        int offset = used;
+
+        offsets[size] = offset;
+        lengths[size] = length;
+        size++;
+        used += length;
+
+        return offset;
+    }
+
+    void add(byte[] secret, int offset, int length) {
+        System.arraycopy(secret, offset, data, reserve(length), length);
+    }
+
+    int size() {
+        return size;
+    }
+
+    byte[] data() {
+        return data;
+    }
+
+    int offset(int index) {
+        return offsets[index];
+    }
+
+    int length(int index) {
+        return lengths[index];
+    }
+
+    String secret(int index) {
+        return new String(data, offsets[index], lengths[index], UTF_8);
+    }
+}
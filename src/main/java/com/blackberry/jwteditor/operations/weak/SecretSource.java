@@ -0,0 +1,57 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.operations.weak;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Source of candidate secrets shared by the workers of a weak secret search
+ */
+interface SecretSource extends Closeable {
+    /**
+     * Replace the contents of a chunk with the next secrets from the source
+     *
+     * @param chunk worker owned chunk to fill
+     * @param chunkSize maximum number of secrets to add
+     * @return false once the source is exhausted
+     * @throws IOException if reading the source fails
+     */
+    boolean fill(SecretChunk chunk, int chunkSize) throws IOException;
+
+    void markTested(int count);
+
+    long tested();
+
+    /**
+     * @return fraction of the source that has been consumed, between 0 and 1
+     */
+    double progress();
+
+    /**
+     * @return position from which a later search can resume without skipping untested candidates, or -1 if the source cannot be resumed
+     */
+    default long resumePosition() {
+        return -1;
+    }
+
+    @Override
+    default void close() throws IOException {
+    }
+}
@@ -0,0 +1,244 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.operations.weak;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Newline separated wordlist of any size, optionally gzip compressed, read sequentially in chunks.
+ * Secrets are treated as raw bytes, so lists that are not valid UTF-8 are tested as-is.
+ */
+class StreamingWordlist implements SecretSource {
+    static final int MAX_SECRET_LENGTH = 1024;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final CountingInputStream rawInputStream;
+    private final InputStream inputStream;
+    private final long fileSize;
+    private final byte[] buffer;
+    private final byte[] line;
+    private final RangeClaims claims;
+    private final AtomicLong counter;
+
+    private int position;
+    private int limit;
+    private boolean endOfStream;
+
+    StreamingWordlist(Path path) throws IOException {
+        this(path, 0);
+    }
+
+    /**
+     * @param path path of the wordlist
+     * @param startLine number of secrets to skip, as reported by {@link #resumePosition()} for an earlier search
+     */
+    StreamingWordlist(Path path, long startLine) throws IOException {
+        this.fileSize = Files.size(path);
+        this.rawInputStream = new CountingInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE));
+        this.inputStream = isGzip(rawInputStream) ? new GZIPInputStream(rawInputStream, BUFFER_SIZE) : rawInputStream;
+        this.buffer = new byte[BUFFER_SIZE];
+        this.line = new byte[MAX_SECRET_LENGTH];
+        this.counter = new AtomicLong();
+        this.claims = new RangeClaims(startLine, Long.MAX_VALUE);
+
+        skip(startLine);
+    }
+
+    @Override
+    public synchronized boolean fill(SecretChunk chunk, int chunkSize) throws IOException {
+        RangeClaims.Range range = claims.claim(chunkSize);
+
+        chunk.clear();
+
+        while (chunk.size() < range.end() - range.start() && readLine(chunk)) {
+            // Keep reading until the chunk is full or the wordlist is exhausted
+        }
+
+        return chunk.size() > 0;
+    }
+
+    @Override
+    public void markTested(int count) {
+        counter.addAndGet(count);
+        claims.release(count);
+    }
+
+    @Override
+    public long tested() {
+        return counter.get();
+    }
+
+    @Override
+    public double progress() {
+        return fileSize == 0 ? 1.0 : Math.min(1.0, (double) rawInputStream.count() / fileSize);
+    }
+
+    @Override
+    public long resumePosition() {
+        return claims.resumePosition();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        inputStream.close();
+    }
+
+    private void skip(long lines) throws IOException {
+        SecretChunk skipped = new SecretChunk();
+
+        for (long skippedLines = 0; skippedLines < lines; skippedLines++) {
+            skipped.clear();
+
+            if (!readLine(skipped)) {
+                return;
+            }
+        }
+    }
+
+    // Lines longer than MAX_SECRET_LENGTH are skipped so that memory use stays bounded
+    private boolean readLine(SecretChunk chunk) throws IOException {
+        int length = 0;
+        boolean tooLong = false;
+        boolean readAny = false;
+
+        while (true) {
+            if (position == limit && !refill()) {
+                if (readAny && !tooLong) {
+                    chunk.add(line, 0, length);
+                }
+
+                return readAny;
+            }
+
+            byte b = buffer[position++];
+            readAny = true;
+
+            if (b == '\n') {
+                if (length > 0 && line[length - 1] == '\r') {
+                    length--;
+                }
+
+                if (tooLong) {
+                    length = 0;
+                    tooLong = false;
+                    readAny = false;
+                    continue;
+                }
+
+                chunk.add(line, 0, length);
+                return true;
+            }
+
+            if (length == MAX_SECRET_LENGTH) {
+                tooLong = true;
+            } else {
+                line[length++] = b;
+            }
+        }
+    }
+
+    private boolean refill() throws IOException {
+        if (endOfStream) {
+            return false;
+        }
+
+        int read = inputStream.read(buffer);
+
+        if (read < 0) {
+            endOfStream = true;
+            return false;
+        }
+
+        position = 0;
+        limit = read;
+
+        return true;
+    }
+
+    private static boolean isGzip(InputStream inputStream) throws IOException {
+        inputStream.mark(2);
+
+        int first = inputStream.read();
+        int second = inputStream.read();
+
+        inputStream.reset();
+
+        return first == (GZIPInputStream.GZIP_MAGIC & 0xFF) && second == (GZIPInputStream.GZIP_MAGIC >> 8);
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        private volatile long count;
+        private long markedCount;
+
+        private CountingInputStream(InputStream inputStream) {
+            super(inputStream);
+        }
+
+        long count() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int result = super.read();
+
+            if (result >= 0) {
+                count++;
+            }
+
+            return result;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int result = super.read(b, off, len);
+
+            if (result > 0) {
+                count += result;
+            }
+
+            return result;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+
+            return skipped;
+        }
+
+        @Override
+        public synchronized void mark(int readLimit) {
+            super.mark(readLimit);
+            markedCount = count;
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            super.reset();
+            count = markedCount;
+        }
+    }
+}
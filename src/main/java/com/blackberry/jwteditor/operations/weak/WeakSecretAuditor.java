@@ -0,0 +1,103 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.operations.weak;
+
+import burp.api.montoya.logging.Logging;
+import com.blackberry.jwteditor.model.tokens.Token;
+import com.blackberry.jwteditor.model.tokens.TokensModel;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static com.blackberry.jwteditor.operations.weak.WeakSecretsFinderStatus.CANCELLED;
+import static com.blackberry.jwteditor.operations.weak.WeakSecretsFinderStatus.COMPLETED;
+import static com.blackberry.jwteditor.operations.weak.WeakSecretsFinderStatus.NO_TARGETS;
+import static com.blackberry.jwteditor.operations.weak.WeakSecretsFinderStatus.SUCCESS;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
+/**
+ * Looks for weak secrets across every HMAC signed token in the tokens model with a single pass over the wordlist
+ */
+public class WeakSecretAuditor implements Closeable {
+    private final ExecutorService executorService;
+    private final WeakSecretsFinderModel model;
+    private final TokensModel tokensModel;
+    private final Logging logging;
+    private final int workerCount;
+
+    public WeakSecretAuditor(WeakSecretsFinderModel model, TokensModel tokensModel, Logging logging) {
+        this(model, tokensModel, logging, Runtime.getRuntime().availableProcessors());
+    }
+
+    public WeakSecretAuditor(WeakSecretsFinderModel model, TokensModel tokensModel, Logging logging, int workerCount) {
+        this.model = model;
+        this.tokensModel = tokensModel;
+        this.logging = logging;
+        this.workerCount = workerCount;
+        this.executorService = newFixedThreadPool(workerCount);
+    }
+
+    /**
+     * Audit the HMAC signed tokens without a known secret against the bundled wordlist.
+     * Secrets are written back to the tokens model as they are found. The audit finishes with
+     * {@link WeakSecretsFinderStatus#SUCCESS} if every secret is found, or {@link WeakSecretsFinderStatus#COMPLETED}
+     * once the wordlist is exhausted. If there are no such tokens, it finishes immediately with
+     * {@link WeakSecretsFinderStatus#NO_TARGETS}.
+     *
+     * @return the number of tokens being audited
+     */
+    public int audit() {
+        List<Token> tokens = tokensModel.tokens().stream()
+                .filter(token -> token.weakSecret() == null)
+                .toList();
+
+        BatchSecretTester batchTester = new BatchSecretTester(tokens);
+        int tokenCount = batchTester.pending();
+
+        if (tokenCount == 0) {
+            model.finishWith(NO_TARGETS);
+            return 0;
+        }
+
+        SearchWorker.start(executorService, logging, workerCount, model, new WeakSecrets(), () -> (chunk, index) -> {
+            batchTester.test(
+                    chunk.data(),
+                    chunk.offset(index),
+                    chunk.length(index),
+                    token -> tokensModel.setWeakSecret(token, chunk.secret(index))
+            );
+
+            if (batchTester.pending() == 0) {
+                model.finishWith(SUCCESS);
+                return true;
+            }
+
+            return false;
+        }, COMPLETED);
+
+        return tokenCount;
+    }
+
+    @Override
+    public void close() {
+        model.finishWith(CANCELLED);
+        executorService.shutdown();
+    }
+}
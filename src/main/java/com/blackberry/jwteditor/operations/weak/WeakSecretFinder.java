@@ -22,58 +22,125 @@ import burp.api.montoya.logging.Logging;
 import com.blackberry.jwteditor.model.jose.JWS;
 
 import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.concurrent.ExecutorService;
 
-import static com.blackberry.jwteditor.operations.weak.WeakSecretsFinderStatus.*;
-import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static com.blackberry.jwteditor.operations.weak.WeakSecretsFinderStatus.CANCELLED;
+import static com.blackberry.jwteditor.operations.weak.WeakSecretsFinderStatus.FAILED;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 
 public class WeakSecretFinder implements Closeable {
     private final ExecutorService executorService;
     private final WeakSecretsFinderModel model;
     private final Logging logging;
+    private final int workerCount;
 
     public WeakSecretFinder(WeakSecretsFinderModel model, Logging logging) {
+        this(model, logging, Runtime.getRuntime().availableProcessors());
+    }
+
+    public WeakSecretFinder(WeakSecretsFinderModel model, Logging logging, int workerCount) {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("Worker count must be positive");
+        }
+
         this.model = model;
         this.logging = logging;
-        this.executorService = newSingleThreadExecutor();
+        this.workerCount = workerCount;
+        this.executorService = newFixedThreadPool(workerCount);
     }
 
     public void bruteForce(JWS jws) {
-        executorService.submit(new ErrorLoggingRunnable(logging, new Worker(model, jws)));
+        bruteForce(jws, false);
     }
 
-    @Override
-    public void close() {
-        executorService.shutdown();
+    /**
+     * Brute force the JWS secret using the bundled wordlist
+     *
+     * @param jws the JWS to attack
+     * @param applyMutationRules whether to expand each word with mutation rules
+     */
+    public void bruteForce(JWS jws, boolean applyMutationRules) {
+        bruteForce(jws, new WeakSecrets(), applyMutationRules);
     }
 
-    private static class Worker implements ErrorLoggingRunnable.Task {
-        private final WeakSecrets weakSecrets;
-        private final WeakSecretsFinderModel model;
-        private final WeakSecretTester tester;
+    /**
+     * Brute force the JWS secret using a newline separated wordlist, which may be gzip compressed
+     *
+     * @param jws the JWS to attack
+     * @param wordlist path to the wordlist
+     * @param applyMutationRules whether to expand each word with mutation rules
+     * @throws IOException if the wordlist cannot be opened
+     */
+    public void bruteForce(JWS jws, Path wordlist, boolean applyMutationRules) throws IOException {
+        bruteForce(jws, new StreamingWordlist(wordlist), applyMutationRules);
+    }
+
+    /**
+     * Brute force the JWS secret by enumerating every candidate matching a mask, shortest first
+     *
+     * @param jws the JWS to attack
+     * @param mask hashcat style mask, e.g. ?l?l?l?d
+     * @param startIndex index within the keyspace to resume from, 0 to start from the beginning
+     * @throws IllegalArgumentException if the mask or start index is invalid
+     */
+    public void bruteForce(JWS jws, String mask, long startIndex) {
+        bruteForce(jws, new MaskSecretSource(Mask.parse(mask), startIndex));
+    }
 
-        private Worker(WeakSecretsFinderModel model, JWS jws) {
-            this.model = model;
-            this.weakSecrets = new WeakSecrets();
-            this.tester = new WeakSecretTester(jws);
+    /**
+     * Brute force the JWS secret from the position recorded by a checkpoint
+     *
+     * @param jws the JWS to attack
+     * @param checkpoint checkpoint of an earlier search against the same JWS, or the start of a new search
+     * @throws IOException if the wordlist cannot be opened
+     * @throws IllegalArgumentException if the mask or position is invalid
+     */
+    public void bruteForce(JWS jws, SearchCheckpoint checkpoint) throws IOException {
+        switch (checkpoint.wordlistType()) {
+            case BUNDLED -> bruteForce(
+                    jws,
+                    new WeakSecrets(IndexedWordlist.bundled(), checkpoint.position()),
+                    checkpoint.mutationRules()
+            );
+
+            case FILE -> bruteForce(
+                    jws,
+                    new StreamingWordlist(Path.of(checkpoint.wordlist()), checkpoint.position()),
+                    checkpoint.mutationRules()
+            );
+
+            case MASK -> bruteForce(jws, checkpoint.wordlist(), checkpoint.position());
         }
+    }
+
+    private void bruteForce(JWS jws, SecretSource words, boolean applyMutationRules) {
+        SecretSource secretSource = applyMutationRules
+                ? new MutatingSecretSource(words, MutationRules.forToken(jws))
+                : words;
 
-        @Override
-        public void action() throws Exception {
-            String secret;
+        bruteForce(jws, secretSource);
+    }
 
-            while (model.status() == RUNNING && (secret = weakSecrets.next()) != null) {
-                model.setProgress(weakSecrets.progress());
+    private void bruteForce(JWS jws, SecretSource secretSource) {
+        SearchWorker.start(executorService, logging, workerCount, model, secretSource, () -> {
+            WeakSecretTester tester = new WeakSecretTester(jws);
 
-                if (tester.isSecretCorrect(secret)) {
-                    model.setStatus(SUCCESS);
-                    model.setSecret(secret);
+            return (chunk, index) -> {
+                if (tester.isSecretCorrect(chunk.data(), chunk.offset(index), chunk.length(index))) {
+                    model.succeedWith(chunk.secret(index));
+                    return true;
                 }
-            }
 
-            if (model.status() == RUNNING) {
-                model.setStatus(FAILED);
-            }
-        }
+                return false;
+            };
+        }, FAILED);
+    }
+
+    @Override
+    public void close() {
+        model.finishWith(CANCELLED);
+        executorService.shutdown();
     }
 }
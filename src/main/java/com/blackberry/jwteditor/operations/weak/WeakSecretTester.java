@@ -19,31 +19,46 @@ limitations under the License.
 package com.blackberry.jwteditor.operations.weak;
 
 import com.blackberry.jwteditor.model.jose.JWS;
-import com.blackberry.jwteditor.model.keys.JWKKey;
-import com.blackberry.jwteditor.model.keys.JWKKeyFactory;
-import com.nimbusds.jose.JWSAlgorithm;
-import com.nimbusds.jose.JWSHeader;
-import com.nimbusds.jose.jwk.JWK;
-import com.nimbusds.jose.jwk.OctetSequenceKey;
-import com.nimbusds.jose.util.Base64URL;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 class WeakSecretTester {
-    private final JWS jws;
-    private final JWSHeader verificationInfo;
+    private final HmacAlgorithm algorithm;
+    private final byte[] signingInput;
+    private final byte[] signature;
 
     public WeakSecretTester(JWS jws) {
-        this.jws = jws;
-
-        JWSAlgorithm algorithm = JWSAlgorithm.parse(jws.header().algorithm());
-        this.verificationInfo = new JWSHeader.Builder(algorithm).build();
+        this.algorithm = HmacAlgorithm.from(jws.header().algorithm());
+        this.signingInput = signingInput(jws);
+        this.signature = jws.signature().encoded().decode();
     }
 
     boolean isSecretCorrect(String secret) throws Exception {
-        Base64URL encodedSecret = Base64URL.encode(secret);
+        byte[] secretBytes = secret.getBytes(UTF_8);
+        return isSecretCorrect(secretBytes, 0, secretBytes.length);
+    }
 
-        JWK key = new OctetSequenceKey.Builder(encodedSecret).build();
-        JWKKey jwkKey = JWKKeyFactory.from(key);
+    /**
+     * Test a region of a buffer as the HMAC secret
+     *
+     * @param secret buffer containing the bytes of the secret
+     * @param offset offset of the secret within the buffer
+     * @param length length of the secret in bytes
+     * @return true if the secret produces the JWS signature
+     */
+    boolean isSecretCorrect(byte[] secret, int offset, int length) throws Exception {
+        HmacContext context = algorithm.context();
+
+        if (signature.length != context.macLength() || !context.init(secret, offset, length)) {
+            return false;
+        }
+
+        return context.matches(signingInput, signature);
+    }
 
-        return jws.verify(jwkKey, verificationInfo);
+    static byte[] signingInput(JWS jws) {
+        // JWS signature input is the ASCII bytes of the base64 encoded header and payload concatenated with a '.'
+        return "%s.%s".formatted(jws.header().toString(), jws.claims().toString()).getBytes(US_ASCII);
     }
 }
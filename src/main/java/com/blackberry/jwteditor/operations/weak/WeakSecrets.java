@@ -18,41 +18,69 @@ limitations under the License.
 
 package com.blackberry.jwteditor.operations.weak;
 
-import java.io.*;
-import java.util.concurrent.atomic.AtomicInteger;
-
-import static java.nio.charset.StandardCharsets.UTF_8;
+import java.util.concurrent.atomic.AtomicLong;
 
 // Secret Source: https://github.com/wallarm/jwt-secrets
-class WeakSecrets {
-    private static final int TOTAL_NUMBER_OF_SECRETS = 103975;
-
-    private final BufferedReader bufferedReader;
-    private final Object lock;
-    private final AtomicInteger counter;
+class WeakSecrets implements SecretSource {
+    private final IndexedWordlist wordlist;
+    private final long startIndex;
+    private final RangeClaims claims;
+    private final AtomicLong counter;
 
     WeakSecrets() {
-        InputStream inputStream = this.getClass().getResourceAsStream("/jwt.secrets.list.txt");
+        this(IndexedWordlist.bundled(), 0);
+    }
+
+    WeakSecrets(IndexedWordlist wordlist) {
+        this(wordlist, 0);
+    }
+
+    WeakSecrets(IndexedWordlist wordlist, long startIndex) {
+        if (startIndex < 0 || startIndex > wordlist.size()) {
+            throw new IllegalArgumentException("Start index outside of wordlist: " + startIndex);
+        }
 
-        this.bufferedReader = new BufferedReader(new InputStreamReader(inputStream, UTF_8));
-        this.lock = new Object();
-        this.counter = new AtomicInteger();
+        this.wordlist = wordlist;
+        this.startIndex = startIndex;
+        this.claims = new RangeClaims(startIndex, wordlist.size());
+        this.counter = new AtomicLong();
     }
 
-    String next() {
-        synchronized (lock) {
-            counter.incrementAndGet();
+    /**
+     * Fill the chunk from the next range of secrets, disjoint from those claimed by any other worker
+     */
+    @Override
+    public boolean fill(SecretChunk chunk, int chunkSize) {
+        RangeClaims.Range range = claims.claim(chunkSize);
+
+        chunk.clear();
 
-            try {
-                return bufferedReader.readLine();
-            } catch (IOException e) {
-                throw new UncheckedIOException(e);
-            }
+        for (long index = range.start(); index < range.end(); index++) {
+            wordlist.read((int) index, chunk);
         }
+
+        return !range.isEmpty();
+    }
+
+    @Override
+    public void markTested(int count) {
+        counter.addAndGet(count);
+        claims.release(count);
+    }
+
+    @Override
+    public long tested() {
+        return counter.get();
+    }
+
+    @Override
+    public double progress() {
+        int total = wordlist.size();
+        return total == 0 ? 1.0 : Math.min(1.0, (double) (startIndex + counter.get()) / total);
     }
 
-    int progress() {
-        double progress = (100.0 * counter.get()) / TOTAL_NUMBER_OF_SECRETS;
-        return (int) progress;
+    @Override
+    public long resumePosition() {
+        return claims.resumePosition();
     }
 }
@@ -18,28 +18,76 @@ limitations under the License.
 
 package com.blackberry.jwteditor.operations.weak;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static com.blackberry.jwteditor.operations.weak.WeakSecretsFinderStatus.RUNNING;
+import static com.blackberry.jwteditor.operations.weak.WeakSecretsFinderStatus.SUCCESS;
 
 public class WeakSecretsFinderModel {
-    private final AtomicInteger percentageComplete;
+    private final AtomicReference<Double> fractionComplete;
+    private final AtomicLong candidatesTested;
+    private final AtomicLong resumePosition;
     private final AtomicReference<WeakSecretsFinderStatus> status;
     private final AtomicReference<String> secret;
+    private final long startTime;
 
     public WeakSecretsFinderModel() {
-        this.percentageComplete = new AtomicInteger();
+        this.fractionComplete = new AtomicReference<>(0.0);
+        this.candidatesTested = new AtomicLong();
+        this.resumePosition = new AtomicLong(-1);
         this.status = new AtomicReference<>(RUNNING);
         this.secret = new AtomicReference<>();
+        this.startTime = System.nanoTime();
     }
 
-    void setProgress(int percentageComplete) {
-        this.percentageComplete.set(percentageComplete);
+    void setProgress(double fractionComplete, long candidatesTested) {
+        this.fractionComplete.set(fractionComplete);
+        this.candidatesTested.set(candidatesTested);
     }
 
     public int progress() {
-        return percentageComplete.get();
+        return (int) (100 * fractionComplete.get());
+    }
+
+    public long candidatesTested() {
+        return candidatesTested.get();
+    }
+
+    void setResumePosition(long resumePosition) {
+        this.resumePosition.set(resumePosition);
+    }
+
+    /**
+     * @return position from which the search can be resumed, or -1 if it cannot be resumed
+     */
+    public long resumePosition() {
+        return resumePosition.get();
+    }
+
+    public long candidatesPerSecond() {
+        double elapsedSeconds = elapsed().toMillis() / 1000.0;
+        return elapsedSeconds == 0 ? 0 : (long) (candidatesTested.get() / elapsedSeconds);
+    }
+
+    /**
+     * Estimate the time remaining by extrapolating from the progress made so far
+     *
+     * @return estimated time remaining, or empty if no progress has been made yet
+     */
+    public Optional<Duration> estimatedTimeRemaining() {
+        double fraction = fractionComplete.get();
+
+        if (fraction <= 0) {
+            return Optional.empty();
+        }
+
+        long elapsedMillis = elapsed().toMillis();
+        long remainingMillis = (long) (elapsedMillis * (1 - fraction) / fraction);
+
+        return Optional.of(Duration.ofMillis(remainingMillis));
     }
 
     void setSecret(String secret) {
@@ -57,4 +105,22 @@ public class WeakSecretsFinderModel {
     public WeakSecretsFinderStatus status() {
         return status.get();
     }
+
+    boolean isRunning() {
+        return status.get() == RUNNING;
+    }
+
+    void finishWith(WeakSecretsFinderStatus finalStatus) {
+        status.compareAndSet(RUNNING, finalStatus);
+    }
+
+    void succeedWith(String secret) {
+        if (this.secret.compareAndSet(null, secret)) {
+            finishWith(SUCCESS);
+        }
+    }
+
+    private Duration elapsed() {
+        return Duration.ofNanos(System.nanoTime() - startTime);
+    }
 }
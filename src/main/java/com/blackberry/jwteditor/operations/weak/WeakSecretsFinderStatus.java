@@ -19,5 +19,10 @@ limitations under the License.
 package com.blackberry.jwteditor.operations.weak;
 
 public enum WeakSecretsFinderStatus {
-    RUNNING, SUCCESS, CANCELLED, FAILED
+    RUNNING, SUCCESS, CANCELLED, FAILED, NO_TARGETS,
+
+    /**
+     * Batch audit that tested every candidate without finding the secrets of all of its tokens
+     */
+    COMPLETED
 }
@@ -27,6 +27,8 @@ import com.blackberry.jwteditor.model.keys.KeysRepository;
 import com.blackberry.jwteditor.model.tokens.Token;
 import com.blackberry.jwteditor.model.tokens.TokenIdGenerator;
 import com.blackberry.jwteditor.model.tokens.TokenRepository;
+import com.blackberry.jwteditor.operations.weak.SearchCheckpoint;
+import com.blackberry.jwteditor.operations.weak.SearchCheckpoints;
 import com.blackberry.jwteditor.utils.Utils;
 import com.blackberry.jwteditor.view.dialog.MessageDialogFactory;
 import com.blackberry.jwteditor.view.dialog.operations.*;
@@ -38,9 +40,14 @@ import com.blackberry.jwteditor.view.weak.WeakKeyAttackDialog;
 import com.nimbusds.jose.util.Base64URL;
 import org.json.JSONException;
 
+import javax.swing.*;
+import java.awt.GridLayout;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.text.ParseException;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 import static com.blackberry.jwteditor.model.jose.ClaimsType.JSON;
 import static com.blackberry.jwteditor.model.jose.ClaimsType.TEXT;
@@ -57,6 +64,8 @@ public class EditorPresenter {
     private final KeysRepository keysRepository;
     private final TokenRepository tokenRepository;
     private final TokenIdGenerator tokenIdGenerator;
+    private final SearchCheckpoints searchCheckpoints;
+    private final ExecutorService verifierExecutor;
     private final EditorView view;
     private final CollaboratorPayloadGenerator collaboratorPayloadGenerator;
     private final Logging logging;
@@ -72,13 +81,17 @@ public class EditorPresenter {
             Logging logging,
             KeysRepository keysRepository,
             TokenRepository tokenRepository,
-            TokenIdGenerator tokenIdGenerator) {
+            TokenIdGenerator tokenIdGenerator,
+            SearchCheckpoints searchCheckpoints,
+            ExecutorService verifierExecutor) {
         this.view = view;
         this.collaboratorPayloadGenerator = collaboratorPayloadGenerator;
         this.logging = logging;
         this.keysRepository = keysRepository;
         this.tokenRepository = tokenRepository;
         this.tokenIdGenerator = tokenIdGenerator;
+        this.searchCheckpoints = searchCheckpoints;
+        this.verifierExecutor = verifierExecutor;
         this.model = new EditorModel();
         this.messageDialogFactory = new MessageDialogFactory(view.uiComponent());
         this.lastSigningKeys = new LastSigningKeys();
@@ -193,7 +206,10 @@ public class EditorPresenter {
             case SignEmptyKey -> showDialogAndUpdateJWS(new EmptyKeySigningPanel());
             case SignPsychicSignature -> showDialogAndUpdateJWS(new PsychicSignaturePanel());
             case EmbedCollaboratorPayload -> showDialogAndUpdateJWS(new EmbedCollaboratorPayloadPanel(collaboratorPayloadGenerator));
-            case WeakSymmetricKey -> onAttackWeakHMACSecret();
+            case WeakSymmetricKey -> onAttackWeakHMACSecret(false);
+            case WeakSymmetricKeyMutations -> onAttackWeakHMACSecret(true);
+            case WeakSymmetricKeyWordlist -> onAttackWeakHMACSecretWithWordlist();
+            case WeakSymmetricKeyMask -> onAttackWeakHMACSecretWithMask();
         }
     }
 
@@ -211,16 +227,117 @@ public class EditorPresenter {
         showDialogAndUpdateJWS(new KeyConfusionAttackPanel(attackKeys, lastSigningKeys));
     }
 
-    private void onAttackWeakHMACSecret() {
+    private void onAttackWeakHMACSecret(boolean applyMutationRules) {
         JWS jws = getJWS();
 
-        if (!jws.header().algorithm().startsWith("HS")) {
-            messageDialogFactory.showWarningDialog("error_title_unable_to_attack_weak_symmetric", "error_unable_to_attack_weak_symmetric");
+        if (!isHMACSigned(jws)) {
             return;
         }
 
-        WeakKeyAttackDialog dialog = new WeakKeyAttackDialog(view.window(), logging, getJWS());
-        dialog.display();
+        startWeakSecretSearch(jws, SearchCheckpoint.bundled(jws, applyMutationRules));
+    }
+
+    private void onAttackWeakHMACSecretWithWordlist() {
+        JWS jws = getJWS();
+
+        if (!isHMACSigned(jws)) {
+            return;
+        }
+
+        JCheckBox checkBoxMutationRules = new JCheckBox(Utils.getResourceString("weak_secret_apply_mutation_rules"));
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setAccessory(checkBoxMutationRules);
+
+        if (fileChooser.showOpenDialog(view.window()) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+
+        Path wordlist = fileChooser.getSelectedFile().toPath();
+
+        startWeakSecretSearch(jws, SearchCheckpoint.file(jws, wordlist, checkBoxMutationRules.isSelected()));
+    }
+
+    private void onAttackWeakHMACSecretWithMask() {
+        JWS jws = getJWS();
+
+        if (!isHMACSigned(jws)) {
+            return;
+        }
+
+        JTextField textFieldMask = new JTextField("?a?a?a?a?a?a");
+        JTextField textFieldStartIndex = new JTextField("0");
+
+        JPanel panel = new JPanel(new GridLayout(2, 2, 5, 5));
+        panel.add(new JLabel(Utils.getResourceString("weak_secret_mask")));
+        panel.add(textFieldMask);
+        panel.add(new JLabel(Utils.getResourceString("weak_secret_mask_start_index")));
+        panel.add(textFieldStartIndex);
+
+        int result = JOptionPane.showConfirmDialog(
+                view.window(),
+                panel,
+                Utils.getResourceString("weak_secret_mask_title"),
+                JOptionPane.OK_CANCEL_OPTION
+        );
+
+        if (result != JOptionPane.OK_OPTION) {
+            return;
+        }
+
+        long startIndex;
+
+        try {
+            startIndex = Long.parseLong(textFieldStartIndex.getText().trim());
+        } catch (NumberFormatException e) {
+            startIndex = -1;
+        }
+
+        if (startIndex < 0) {
+            messageDialogFactory.showWarningDialog("error_title_unable_to_attack_weak_symmetric", "error_invalid_start_index", textFieldStartIndex.getText());
+            return;
+        }
+
+        startWeakSecretSearch(jws, SearchCheckpoint.mask(jws, textFieldMask.getText(), startIndex));
+    }
+
+    private void startWeakSecretSearch(JWS jws, SearchCheckpoint search) {
+        Optional<SearchCheckpoint> checkpoint = searchCheckpoints.find(search)
+                .filter(saved -> saved.position() > search.position());
+
+        if (checkpoint.isPresent()) {
+            int result = JOptionPane.showConfirmDialog(
+                    view.window(),
+                    Utils.getResourceString("weak_secret_resume").formatted(checkpoint.get().position()),
+                    Utils.getResourceString("weak_secret_resume_title"),
+                    JOptionPane.YES_NO_CANCEL_OPTION
+            );
+
+            switch (result) {
+                case JOptionPane.YES_OPTION -> search = checkpoint.get();
+                case JOptionPane.NO_OPTION -> searchCheckpoints.remove(search);
+                default -> {
+                    return;
+                }
+            }
+        }
+
+        try {
+            WeakKeyAttackDialog dialog = new WeakKeyAttackDialog(view.window(), logging, searchCheckpoints, jws, search);
+            dialog.display();
+        } catch (IOException e) {
+            messageDialogFactory.showWarningDialog("error_title_unable_to_attack_weak_symmetric", "error_unable_to_open_wordlist", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            messageDialogFactory.showWarningDialog("error_title_unable_to_attack_weak_symmetric", "error_invalid_mask", e.getMessage());
+        }
+    }
+
+    private boolean isHMACSigned(JWS jws) {
+        if (jws.header().algorithm().startsWith("HS")) {
+            return true;
+        }
+
+        messageDialogFactory.showWarningDialog("error_title_unable_to_attack_weak_symmetric", "error_unable_to_attack_weak_symmetric");
+        return false;
     }
 
     public void onSignClicked() {
@@ -263,7 +380,7 @@ public class EditorPresenter {
             return;
         }
 
-        KeyRing keyRing = new KeyRing(keys);
+        KeyRing keyRing = new KeyRing(keys, keysRepository.operationCache(), verifierExecutor);
         Optional<Key> key = keyRing.findVerifyingKey(getJWS());
 
         String messageKey = key.isPresent() ? "editor_view_message_verified" : "editor_view_message_not_verified";
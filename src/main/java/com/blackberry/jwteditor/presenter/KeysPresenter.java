@@ -85,8 +85,9 @@ public class KeysPresenter {
      * Handler for double-click events from the keys view
      */
     public void onTableKeysDoubleClick() {
-        Key key = model.getKey(view.getSelectedRow());
-        KeyDialog dialog = keysDialogFactory.dialogFor(key);
+        // Look the key up in the table, as model changes reach it asynchronously and row indices may not match the model
+        Key key = view.getKey(view.getSelectedRow());
+        KeyDialog dialog = key == null ? null : keysDialogFactory.dialogFor(key);
 
         if (dialog == null) {
             return;
@@ -161,8 +162,8 @@ public class KeysPresenter {
      * @return true if the key is a JWK with private key
      */
     public boolean canCopyJWK(int row) {
-        Key key = model.getKey(row);
-        return key.hasJWK() && key.isPrivate();
+        Key key = view.getKey(row);
+        return key != null && key.hasJWK() && key.isPrivate();
     }
 
     /**
@@ -172,8 +173,8 @@ public class KeysPresenter {
      * @return true if the key has a private key and can be formatted as a PEM
      */
     public boolean canCopyPEM(int row) {
-        Key key = model.getKey(row);
-        return key.canConvertToPem() && key.isPrivate();
+        Key key = view.getKey(row);
+        return key != null && key.canConvertToPem() && key.isPrivate();
     }
 
     /**
@@ -183,8 +184,8 @@ public class KeysPresenter {
      * @return true if the key has a public key and can be formatted as a JWK
      */
     public boolean canCopyPublicJWK(int row) {
-        Key key = model.getKey(row);
-        return key.hasJWK() && key.isPublic();
+        Key key = view.getKey(row);
+        return key != null && key.hasJWK() && key.isPublic();
     }
 
     /**
@@ -194,8 +195,8 @@ public class KeysPresenter {
      * @return true if the key has a public key and can be formatted as a PEM
      */
     public boolean canCopyPublicPEM(int row) {
-        Key key = model.getKey(row);
-        return key.canConvertToPem() && key.isPublic();
+        Key key = view.getKey(row);
+        return key != null && key.canConvertToPem() && key.isPublic();
     }
 
     /**
@@ -205,13 +206,13 @@ public class KeysPresenter {
      * @return true if the key is a password
      */
     public boolean canCopyPassword(int row) {
-        Key key = model.getKey(row);
+        Key key = view.getKey(row);
         return key instanceof PasswordKey;
     }
 
     public boolean canCopyJWKSet(int[] rows) {
         return IntStream.of(rows)
-                .mapToObj(model::getKey)
+                .mapToObj(view::getKey)
                 .filter(Objects::nonNull)
                 .anyMatch(Key::hasJWK);
     }
@@ -232,7 +233,13 @@ public class KeysPresenter {
         );
 
         if (option == JOptionPane.OK_OPTION) {
-            model.deleteKeys(rows);
+            // Resolve the selected rows to keys before deleting any, as deletions move later rows
+            IntStream.of(rows)
+                    .mapToObj(view::getKey)
+                    .filter(Objects::nonNull)
+                    .map(Key::getID)
+                    .toList()
+                    .forEach(model::deleteKey);
         }
     }
 
@@ -242,7 +249,7 @@ public class KeysPresenter {
      * @param row the index of the key from the position in the view
      */
     public void onPopupCopyJWK(int row) {
-        JWKKey jwkKey = (JWKKey) model.getKey(row);
+        JWKKey jwkKey = (JWKKey) view.getKey(row);
         JWK jwk = jwkKey.getJWK();
         Utils.copyToClipboard(prettyPrintJSON(jwk.toJSONString()));
     }
@@ -253,7 +260,7 @@ public class KeysPresenter {
      * @param row the index of the key from the position in the view
      */
     public void onPopupCopyPEM(int row) {
-        JWKKey jwkKey = (JWKKey) model.getKey(row);
+        JWKKey jwkKey = (JWKKey) view.getKey(row);
         JWK jwk = jwkKey.getJWK();
         try {
             Utils.copyToClipboard(PEMUtils.jwkToPem(jwk));
@@ -268,7 +275,7 @@ public class KeysPresenter {
      * @param row the index of the key from the position in the view
      */
     public void onPopupCopyPublicJWK(int row) {
-        JWKKey jwkKey = (JWKKey) model.getKey(row);
+        JWKKey jwkKey = (JWKKey) view.getKey(row);
         JWK jwk = jwkKey.getJWK().toPublicJWK();
         Utils.copyToClipboard(prettyPrintJSON(jwk.toJSONString()));
     }
@@ -279,7 +286,7 @@ public class KeysPresenter {
      * @param row the index of the key from the position in the view
      */
     public void onPopupCopyPublicPEM(int row) {
-        JWKKey jwkKey = (JWKKey) model.getKey(row);
+        JWKKey jwkKey = (JWKKey) view.getKey(row);
         JWK jwk = jwkKey.getJWK().toPublicJWK();
         try {
             Utils.copyToClipboard(PEMUtils.jwkToPem(jwk));
@@ -294,13 +301,13 @@ public class KeysPresenter {
      * @param row the index of the key from the position in the view
      */
     public void onPopupCopyPassword(int row) {
-        PasswordKey passwordKey = (PasswordKey) model.getKey(row);
+        PasswordKey passwordKey = (PasswordKey) view.getKey(row);
         Utils.copyToClipboard(passwordKey.getPassword());
     }
 
     public void onPopupJWKSet(int[] rows) {
         List<JWK> selectedJwk = IntStream.of(rows)
-                .mapToObj(model::getKey)
+                .mapToObj(view::getKey)
                 .filter(Objects::nonNull)
                 .filter(key -> key instanceof JWKKey)
                 .map(key -> ((JWKKey) key).getJWK())
@@ -18,8 +18,10 @@ limitations under the License.
 
 package com.blackberry.jwteditor.view;
 
+import burp.api.montoya.logging.Logging;
 import burp.api.montoya.ui.UserInterface;
 import burp.config.BurpConfig;
+import burp.proxy.BackgroundScanner;
 import com.blackberry.jwteditor.model.keys.KeysModel;
 import com.blackberry.jwteditor.model.persistence.KeysModelPersistence;
 import com.blackberry.jwteditor.model.tokens.TokensModel;
@@ -39,7 +41,9 @@ public class SuiteView {
     private final TokensModel tokensModel;
     private final RstaFactory rstaFactory;
     private final BurpConfig burpConfig;
+    private final BackgroundScanner backgroundScanner;
     private final UserInterface userInterface;
+    private final Logging logging;
     private final boolean isProVersion;
 
     private JPanel panel;
@@ -54,7 +58,9 @@ public class SuiteView {
             TokensModel tokensModel,
             RstaFactory rstaFactory,
             BurpConfig burpConfig,
+            BackgroundScanner backgroundScanner,
             UserInterface userInterface,
+            Logging logging,
             boolean isProVersion) {
         this.parent = parent;
         this.keysModelPersistence = keysModelPersistence;
@@ -62,7 +68,9 @@ public class SuiteView {
         this.tokensModel = tokensModel;
         this.rstaFactory = rstaFactory;
         this.burpConfig = burpConfig;
+        this.backgroundScanner = backgroundScanner;
         this.userInterface = userInterface;
+        this.logging = logging;
         this.isProVersion = isProVersion;
     }
 
@@ -89,7 +97,7 @@ public class SuiteView {
                 keysModel,
                 rstaFactory
         );
-        configView = new ConfigView(burpConfig, userInterface, isProVersion, keysModel);
-        tokensView = new TokensView(tokensModel, rstaFactory);
+        configView = new ConfigView(burpConfig, backgroundScanner, userInterface, isProVersion, keysModel);
+        tokensView = new TokensView(tokensModel, logging, rstaFactory);
     }
 }
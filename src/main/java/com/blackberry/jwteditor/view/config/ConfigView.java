@@ -20,6 +20,7 @@ package com.blackberry.jwteditor.view.config;
 
 import burp.api.montoya.ui.UserInterface;
 import burp.config.BurpConfig;
+import burp.proxy.BackgroundScanner;
 import com.blackberry.jwteditor.model.keys.KeysModel;
 
 import javax.swing.*;
@@ -27,6 +28,7 @@ import javax.swing.*;
 
 public class ConfigView {
     private final BurpConfig burpConfig;
+    private final BackgroundScanner backgroundScanner;
     private final UserInterface userInterface;
     private final boolean isProVersion;
     private final KeysModel keysModel;
@@ -36,15 +38,16 @@ public class ConfigView {
     private ScannerConfigView scannerConfigView;
     private IntruderConfigView intruderConfigView;
 
-    public ConfigView(BurpConfig burpConfig, UserInterface userInterface, boolean isProVersion, KeysModel keysModel) {
+    public ConfigView(BurpConfig burpConfig, BackgroundScanner backgroundScanner, UserInterface userInterface, boolean isProVersion, KeysModel keysModel) {
         this.burpConfig = burpConfig;
+        this.backgroundScanner = backgroundScanner;
         this.userInterface = userInterface;
         this.isProVersion = isProVersion;
         this.keysModel = keysModel;
     }
 
     private void createUIComponents() {
-        proxyConfigView = new ProxyConfigView(userInterface, burpConfig.proxyConfig());
+        proxyConfigView = new ProxyConfigView(userInterface, burpConfig.proxyConfig(), backgroundScanner);
         intruderConfigView = new IntruderConfigView(userInterface, new IntruderConfigModel(keysModel, burpConfig.intruderConfig()));
         scannerConfigView = new ScannerConfigView(userInterface, burpConfig.scannerConfig(), isProVersion);
     }
@@ -19,22 +19,42 @@ limitations under the License.
 package com.blackberry.jwteditor.view.config;
 
 import burp.api.montoya.ui.UserInterface;
+import burp.proxy.BackgroundScanner;
 import burp.proxy.HighlightColor;
 import burp.proxy.ProxyConfig;
+import com.blackberry.jwteditor.model.jose.JOSEObjectFinder;
+import com.blackberry.jwteditor.model.jose.JOSEScanCache;
+import com.blackberry.jwteditor.view.utils.DocumentAdapter;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.List;
 
+import static com.blackberry.jwteditor.utils.Utils.getResourceString;
 import static java.awt.Font.BOLD;
+import static java.awt.event.HierarchyEvent.SHOWING_CHANGED;
 
 
 class ProxyConfigView {
+    private static final String CONTENT_TYPE_SEPARATOR = ", ";
+    private static final int STATISTICS_UPDATE_INTERVAL_MS = 1000;
+
+    private final BackgroundScanner backgroundScanner;
+
     private JPanel mainPanel;
     private JCheckBox checkBoxHighlightJWT;
     private JComboBox comboBoxHighlightColor;
+    private JTextField textFieldDeniedContentTypes;
+    private JTextField textFieldAllowedContentTypes;
+    private JSpinner spinnerMaxBodySize;
+    private JCheckBox checkBoxScanHeadersOfLargeMessages;
+    private JCheckBox checkBoxCaptureTokens;
+    private JLabel labelStatistics;
     private JLabel proxyLabel;
 
-    ProxyConfigView(UserInterface userInterface, ProxyConfig proxyConfig) {
+    ProxyConfigView(UserInterface userInterface, ProxyConfig proxyConfig, BackgroundScanner backgroundScanner) {
+        this.backgroundScanner = backgroundScanner;
+
         checkBoxHighlightJWT.setSelected(proxyConfig.highlightJWT());
 
         checkBoxHighlightJWT.addActionListener(e -> {
@@ -47,12 +67,62 @@ class ProxyConfigView {
         comboBoxHighlightColor.setEnabled(proxyConfig.highlightJWT());
         comboBoxHighlightColor.addActionListener(e -> proxyConfig.setHighlightColor((HighlightColor) comboBoxHighlightColor.getSelectedItem()));
 
+        textFieldDeniedContentTypes.setText(String.join(CONTENT_TYPE_SEPARATOR, proxyConfig.deniedContentTypes()));
+        textFieldDeniedContentTypes.getDocument().addDocumentListener(
+                new DocumentAdapter(e -> proxyConfig.setDeniedContentTypes(contentTypes(textFieldDeniedContentTypes)))
+        );
+
+        textFieldAllowedContentTypes.setText(String.join(CONTENT_TYPE_SEPARATOR, proxyConfig.allowedContentTypes()));
+        textFieldAllowedContentTypes.getDocument().addDocumentListener(
+                new DocumentAdapter(e -> proxyConfig.setAllowedContentTypes(contentTypes(textFieldAllowedContentTypes)))
+        );
+
+        spinnerMaxBodySize.setModel(new SpinnerNumberModel(proxyConfig.maxBodySize(), 0, Integer.MAX_VALUE, 1024));
+        spinnerMaxBodySize.addChangeListener(e -> proxyConfig.setMaxBodySize((Integer) spinnerMaxBodySize.getValue()));
+
+        checkBoxScanHeadersOfLargeMessages.setSelected(proxyConfig.scanHeadersOfLargeMessages());
+        checkBoxScanHeadersOfLargeMessages.addActionListener(e -> proxyConfig.setScanHeadersOfLargeMessages(checkBoxScanHeadersOfLargeMessages.isSelected()));
+
+        checkBoxCaptureTokens.setSelected(proxyConfig.captureTokens());
+        checkBoxCaptureTokens.addActionListener(e -> proxyConfig.setCaptureTokens(checkBoxCaptureTokens.isSelected()));
+
+        // Only refreshed while shown, so the timer stops once the panel is hidden or removed when the extension unloads
+        Timer statisticsTimer = new Timer(STATISTICS_UPDATE_INTERVAL_MS, e -> updateStatistics());
+        mainPanel.addHierarchyListener(e -> {
+            if ((e.getChangeFlags() & SHOWING_CHANGED) == 0) {
+                return;
+            }
+
+            if (mainPanel.isShowing()) {
+                updateStatistics();
+                statisticsTimer.start();
+            } else {
+                statisticsTimer.stop();
+            }
+        });
+
         proxyLabel.setFont(proxyLabel.getFont().deriveFont(BOLD));
         userInterface.applyThemeToComponent(mainPanel);
 
         comboBoxHighlightColor.setRenderer(new HighlightComboRenderer());
     }
 
+    private void updateStatistics() {
+        JOSEScanCache scanCache = JOSEObjectFinder.scanCache();
+
+        labelStatistics.setText(getResourceString("proxy_config_statistics").formatted(
+                scanCache.size(),
+                scanCache.hitRate() * 100,
+                backgroundScanner.queueDepth(),
+                backgroundScanner.completed(),
+                backgroundScanner.dropped()
+        ));
+    }
+
+    private static List<String> contentTypes(JTextField textField) {
+        return List.of(textField.getText().split(","));
+    }
+
     private static class HighlightComboRenderer implements ListCellRenderer<HighlightColor> {
         private final ListCellRenderer renderer = new DefaultListCellRenderer();
 
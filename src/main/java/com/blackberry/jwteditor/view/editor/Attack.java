@@ -28,7 +28,10 @@ public enum Attack {
     SignEmptyKey("editor_view_button_attack_sign_empty_key", VK_E),
     SignPsychicSignature("editor_view_button_attack_sign_psychic_signature", VK_P),
     EmbedCollaboratorPayload("editor_view_button_attack_embed_collaborator_payload", VK_C),
-    WeakSymmetricKey("editor_view_button_attack_weak_symmetric_key", VK_W);
+    WeakSymmetricKey("editor_view_button_attack_weak_symmetric_key", VK_W),
+    WeakSymmetricKeyMutations("editor_view_button_attack_weak_symmetric_key_mutations", VK_M),
+    WeakSymmetricKeyWordlist("editor_view_button_attack_weak_symmetric_key_wordlist", VK_L),
+    WeakSymmetricKeyMask("editor_view_button_attack_weak_symmetric_key_mask", VK_K);
 
     private final String labelResourceId;
     private final int mnemonic;
@@ -26,6 +26,7 @@ import com.blackberry.jwteditor.model.jose.Information;
 import com.blackberry.jwteditor.model.keys.KeysRepository;
 import com.blackberry.jwteditor.model.tokens.TokenIdGenerator;
 import com.blackberry.jwteditor.model.tokens.TokenRepository;
+import com.blackberry.jwteditor.operations.weak.SearchCheckpoints;
 import com.blackberry.jwteditor.presenter.EditorPresenter;
 import com.blackberry.jwteditor.utils.Utils;
 import com.blackberry.jwteditor.view.hexcodearea.HexCodeAreaFactory;
@@ -44,6 +45,7 @@ import javax.swing.border.LineBorder;
 import javax.swing.event.DocumentListener;
 import java.awt.*;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import static com.blackberry.jwteditor.model.jose.ClaimsType.JSON;
 import static com.blackberry.jwteditor.view.editor.EditorMode.JWS;
@@ -109,6 +111,8 @@ public abstract class EditorView {
             KeysRepository keysRepository,
             TokenRepository tokenRepository,
             TokenIdGenerator tokenIdGenerator,
+            SearchCheckpoints searchCheckpoints,
+            ExecutorService verifierExecutor,
             RstaFactory rstaFactory,
             HexCodeAreaFactory hexAreaCodeFactory,
             CollaboratorPayloadGenerator collaboratorPayloadGenerator,
@@ -127,7 +131,9 @@ public abstract class EditorView {
                 logging,
                 keysRepository,
                 tokenRepository,
-                tokenIdGenerator
+                tokenIdGenerator,
+                searchCheckpoints,
+                verifierExecutor
         );
         this.informationPanel = informationPanelFactory.build();
         this.attackMenuFactory = new EditorViewAttackMenuFactory(presenter, isProVersion);
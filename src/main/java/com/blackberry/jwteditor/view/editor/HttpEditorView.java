@@ -27,9 +27,12 @@ import burp.api.montoya.ui.editor.extension.ExtensionProvidedEditor;
 import com.blackberry.jwteditor.model.keys.KeysRepository;
 import com.blackberry.jwteditor.model.tokens.TokenIdGenerator;
 import com.blackberry.jwteditor.model.tokens.TokenRepository;
+import com.blackberry.jwteditor.operations.weak.SearchCheckpoints;
 import com.blackberry.jwteditor.view.hexcodearea.HexCodeAreaFactory;
 import com.blackberry.jwteditor.view.rsta.RstaFactory;
 
+import java.util.concurrent.ExecutorService;
+
 abstract class HttpEditorView extends EditorView implements ExtensionProvidedEditor {
     volatile HttpService httpService;
 
@@ -39,6 +42,8 @@ abstract class HttpEditorView extends EditorView implements ExtensionProvidedEdi
             KeysRepository keysRepository,
             TokenRepository tokenRepository,
             TokenIdGenerator tokenIdGenerator,
+            SearchCheckpoints searchCheckpoints,
+            ExecutorService verifierExecutor,
             RstaFactory rstaFactory,
             HexCodeAreaFactory hexAreaCodeFactory,
             CollaboratorPayloadGenerator collaboratorPayloadGenerator,
@@ -50,6 +55,8 @@ abstract class HttpEditorView extends EditorView implements ExtensionProvidedEdi
                 keysRepository,
                 tokenRepository,
                 tokenIdGenerator,
+                searchCheckpoints,
+                verifierExecutor,
                 rstaFactory,
                 hexAreaCodeFactory,
                 collaboratorPayloadGenerator,
@@ -26,9 +26,12 @@ import burp.api.montoya.ui.editor.extension.ExtensionProvidedHttpResponseEditor;
 import com.blackberry.jwteditor.model.keys.KeysRepository;
 import com.blackberry.jwteditor.model.tokens.TokenIdGenerator;
 import com.blackberry.jwteditor.model.tokens.TokenRepository;
+import com.blackberry.jwteditor.operations.weak.SearchCheckpoints;
 import com.blackberry.jwteditor.view.hexcodearea.HexCodeAreaFactory;
 import com.blackberry.jwteditor.view.rsta.RstaFactory;
 
+import java.util.concurrent.ExecutorService;
+
 import static burp.api.montoya.internal.ObjectFactoryLocator.FACTORY;
 import static com.blackberry.jwteditor.model.jose.JOSEObjectFinder.containsJOSEObjects;
 
@@ -38,6 +41,8 @@ public class HttpResponseEditorView extends HttpEditorView implements ExtensionP
             KeysRepository keysRepository,
             TokenRepository tokenRepository,
             TokenIdGenerator tokenIdGenerator,
+            SearchCheckpoints searchCheckpoints,
+            ExecutorService verifierExecutor,
             RstaFactory rstaFactory,
             CollaboratorPayloadGenerator collaboratorPayloadGenerator,
             HexCodeAreaFactory hexAreaCodeFactory,
@@ -49,6 +54,8 @@ public class HttpResponseEditorView extends HttpEditorView implements ExtensionP
                 keysRepository,
                 tokenRepository,
                 tokenIdGenerator,
+                searchCheckpoints,
+                verifierExecutor,
                 rstaFactory,
                 hexAreaCodeFactory,
                 collaboratorPayloadGenerator,
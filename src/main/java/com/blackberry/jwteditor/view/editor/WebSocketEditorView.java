@@ -27,9 +27,12 @@ import burp.api.montoya.ui.editor.extension.ExtensionProvidedWebSocketMessageEdi
 import com.blackberry.jwteditor.model.keys.KeysRepository;
 import com.blackberry.jwteditor.model.tokens.TokenIdGenerator;
 import com.blackberry.jwteditor.model.tokens.TokenRepository;
+import com.blackberry.jwteditor.operations.weak.SearchCheckpoints;
 import com.blackberry.jwteditor.view.hexcodearea.HexCodeAreaFactory;
 import com.blackberry.jwteditor.view.rsta.RstaFactory;
 
+import java.util.concurrent.ExecutorService;
+
 import static com.blackberry.jwteditor.model.jose.JOSEObjectFinder.containsJOSEObjects;
 
 public class WebSocketEditorView extends EditorView implements ExtensionProvidedWebSocketMessageEditor {
@@ -39,6 +42,8 @@ public class WebSocketEditorView extends EditorView implements ExtensionProvided
     public WebSocketEditorView(KeysRepository keysRepository,
                                TokenRepository tokenRepository,
                                TokenIdGenerator tokenIdGenerator,
+                               SearchCheckpoints searchCheckpoints,
+                               ExecutorService verifierExecutor,
                                RstaFactory rstaFactory,
                                CollaboratorPayloadGenerator collaboratorPayloadGenerator,
                                HexCodeAreaFactory hexAreaCodeFactory,
@@ -50,6 +55,8 @@ public class WebSocketEditorView extends EditorView implements ExtensionProvided
                 keysRepository,
                 tokenRepository,
                 tokenIdGenerator,
+                searchCheckpoints,
+                verifierExecutor,
                 rstaFactory,
                 hexAreaCodeFactory,
                 collaboratorPayloadGenerator,
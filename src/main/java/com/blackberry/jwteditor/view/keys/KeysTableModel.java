@@ -20,6 +20,7 @@ package com.blackberry.jwteditor.view.keys;
 
 import com.blackberry.jwteditor.model.keys.Key;
 import com.blackberry.jwteditor.view.keys.KeysTableColumnConfiguration.KeysTableColumns;
+import com.blackberry.jwteditor.view.utils.table.CoalescingTableModelUpdater;
 import com.blackberry.jwteditor.view.utils.table.GenericTableModel;
 
 import java.util.ArrayList;
@@ -27,28 +28,53 @@ import java.util.List;
 
 class KeysTableModel extends GenericTableModel {
     private final List<Key> data;
+    private final CoalescingTableModelUpdater updater;
 
     KeysTableModel(Iterable<Key> keys) {
         super(new KeysTableColumnConfiguration());
 
         this.data = new ArrayList<>();
         keys.forEach(data::add);
+
+        // Bulk imports add keys one at a time, so changes are applied and published on the EDT in batches
+        this.updater = new CoalescingTableModelUpdater(this, data.size());
     }
 
     void addKey(Key key) {
-        int nextRowIndex = data.size();
-        data.add(key);
-        fireTableRowsInserted(nextRowIndex, nextRowIndex);
+        updater.rowAppended(() -> data.add(key));
     }
 
     void deleteKey(Key key) {
-        int index = data.indexOf(key);
-        deleteRow(index);
+        updater.rowDeleted(() -> {
+            int index = data.indexOf(key);
+
+            if (index >= 0) {
+                data.remove(index);
+            }
+
+            return index;
+        });
     }
 
     void deleteRow(int rowIndex) {
-        data.remove(rowIndex);
-        fireTableRowsDeleted(rowIndex, rowIndex);
+        updater.rowDeleted(() -> {
+            if (rowIndex < 0 || rowIndex >= data.size()) {
+                return -1;
+            }
+
+            data.remove(rowIndex);
+            return rowIndex;
+        });
+    }
+
+    /**
+     * Get the key shown in a row, which may lag behind the keys model until pending changes have been published
+     *
+     * @param rowIndex index of the row
+     * @return the key in the row, or null if there is no such row
+     */
+    Key getKey(int rowIndex) {
+        return rowIndex < 0 || rowIndex >= data.size() ? null : data.get(rowIndex);
     }
 
     @Override
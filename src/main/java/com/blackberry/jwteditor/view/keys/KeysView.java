@@ -166,6 +166,15 @@ public class KeysView {
         return tableKeys.getSelectedRow();
     }
 
+    /**
+     * Get the key shown in a row of the table
+     * @param row row index
+     * @return the key in the row, or null if there is no such row
+     */
+    public Key getKey(int row) {
+        return keysTableModel.getKey(row);
+    }
+
     /**
      * Custom form initialisation
      */
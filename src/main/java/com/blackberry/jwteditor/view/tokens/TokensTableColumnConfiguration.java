@@ -27,10 +27,14 @@ public class TokensTableColumnConfiguration implements TableColumnConfiguration
 
     enum TokensTableColumns {
         ID("id", 5, String.class),
-        HOST("host", 35, String.class),
-        PATH("path", 35, String.class),
+        HOST("host", 20, String.class),
+        PATH("path", 20, String.class),
         ALGORITHM("algorithm", 5, String.class),
-        KEY_ID("key_id", 20, String.class);
+        KEY_ID("key_id", 15, String.class),
+        WEAK_SECRET("weak_secret", 10, String.class),
+        HIT_COUNT("hit_count", 5, Long.class),
+        FIRST_SEEN("first_seen", 10, String.class),
+        LAST_SEEN("last_seen", 10, String.class);
 
         private final String label;
         private final int widthPercentage;
@@ -19,46 +19,59 @@ limitations under the License.
 package com.blackberry.jwteditor.view.tokens;
 
 import com.blackberry.jwteditor.model.tokens.Token;
+import com.blackberry.jwteditor.model.tokens.TokensModel;
 import com.blackberry.jwteditor.model.tokens.TokensModelListener;
 import com.blackberry.jwteditor.view.tokens.TokensTableColumnConfiguration.TokensTableColumns;
+import com.blackberry.jwteditor.view.utils.table.CoalescingTableModelUpdater;
 import com.blackberry.jwteditor.view.utils.table.GenericTableModel;
 
-import java.util.List;
-import java.util.function.Consumer;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 
 class TokensTableModel extends GenericTableModel {
-    private final List<Token> tokens;
+    private static final DateTimeFormatter SEEN_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
 
-    TokensTableModel(List<Token> tokens, Consumer<TokensModelListener> listenerConsumer) {
+    private final TokensModel tokensModel;
+    private final CoalescingTableModelUpdater updater;
+
+    TokensTableModel(TokensModel tokensModel) {
         super(new TokensTableColumnConfiguration());
 
-        this.tokens = tokens;
+        this.tokensModel = tokensModel;
+        this.updater = new CoalescingTableModelUpdater(this, tokensModel.size());
 
-        listenerConsumer.accept(new TokensModelListener() {
+        // Tokens can be captured by the proxy at a high rate, so changes are published to the table in batches
+        tokensModel.addTokensModelListener(new TokensModelListener() {
             @Override
             public void notifyTokenInserted(Token token) {
-                fireTableRowsInserted(tokens.size() - 1, tokens.size() - 1);
+                updater.rowAppended();
             }
 
             @Override
             public void notifyTokenDeleted(int index) {
-                fireTableRowsDeleted(index, index);
+                updater.rowDeleted(() -> index);
+            }
+
+            @Override
+            public void notifyTokenUpdated(int index) {
+                updater.rowUpdated(index);
             }
         });
     }
 
     @Override
     public int getRowCount() {
-        return tokens.size();
+        return updater.rowCount();
     }
 
     @Override
     public Object getValueAt(int rowIndex, int columnIndex) {
-        if (rowIndex < 0 || rowIndex >= tokens.size()) {
+        if (rowIndex < 0 || rowIndex >= updater.rowCount()) {
             return null;
         }
 
-        Token token = tokens.get(rowIndex);
+        Token token = tokensModel.getToken(rowIndex);
         TokensTableColumns column = TokensTableColumns.fromIndex(columnIndex);
 
         return switch (column) {
@@ -67,6 +80,15 @@ class TokensTableModel extends GenericTableModel {
             case PATH -> token.path();
             case ALGORITHM -> token.algorithm();
             case KEY_ID -> token.keyId();
+            case WEAK_SECRET -> token.weakSecret();
+            case HIT_COUNT -> token.hitCount();
+            case FIRST_SEEN -> seen(token.firstSeen());
+            case LAST_SEEN -> seen(token.lastSeen());
         };
     }
+
+    // Tokens added from the editor have never been seen by the proxy
+    private static String seen(long timestamp) {
+        return timestamp == 0 ? null : SEEN_FORMATTER.format(Instant.ofEpochMilli(timestamp));
+    }
 }
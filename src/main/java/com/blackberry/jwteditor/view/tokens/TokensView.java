@@ -18,8 +18,11 @@ limitations under the License.
 
 package com.blackberry.jwteditor.view.tokens;
 
+import burp.api.montoya.logging.Logging;
 import com.blackberry.jwteditor.model.tokens.Token;
 import com.blackberry.jwteditor.model.tokens.TokensModel;
+import com.blackberry.jwteditor.operations.weak.WeakSecretAuditor;
+import com.blackberry.jwteditor.operations.weak.WeakSecretsFinderModel;
 import com.blackberry.jwteditor.view.rsta.RstaFactory;
 import com.blackberry.jwteditor.view.utils.RunEDTActionOnFirstRenderHierarchyListener;
 import com.blackberry.jwteditor.view.utils.table.PercentageBasedColumnWidthTable;
@@ -30,27 +33,43 @@ import javax.swing.*;
 import javax.swing.table.TableCellRenderer;
 import javax.swing.table.TableModel;
 
+import static com.blackberry.jwteditor.operations.weak.WeakSecretsFinderStatus.NO_TARGETS;
+import static com.blackberry.jwteditor.operations.weak.WeakSecretsFinderStatus.RUNNING;
+import static com.blackberry.jwteditor.utils.Utils.getResourceString;
 import static com.blackberry.jwteditor.view.tokens.TokensTableColumnConfiguration.TokensTableColumns.columnWidthPercentages;
 import static javax.swing.ListSelectionModel.SINGLE_SELECTION;
 
 public class TokensView {
+    private static final int AUDIT_UPDATE_INTERVAL_MS = 250;
 
+    private final TokensModel tokensModel;
+    private final Logging logging;
     private final RstaFactory rstaFactory;
+    private final Timer auditTimer;
+
+    private WeakSecretsFinderModel auditModel;
+    private WeakSecretAuditor auditor;
+    private int auditedTokenCount;
 
     private JPanel panel;
     private JTable tokenTable;
     private RSyntaxTextArea textAreaPayload;
     private JSplitPane splitPane;
+    private JButton buttonAuditWeakSecrets;
+    private JLabel labelAuditStatus;
 
-    public TokensView(TokensModel tokensModel, RstaFactory rstaFactory) {
+    public TokensView(TokensModel tokensModel, Logging logging, RstaFactory rstaFactory) {
+        this.tokensModel = tokensModel;
+        this.logging = logging;
         this.rstaFactory = rstaFactory;
+        this.auditTimer = new Timer(AUDIT_UPDATE_INTERVAL_MS, e -> updateAuditStatus());
 
         panel.addHierarchyListener(new RunEDTActionOnFirstRenderHierarchyListener(
                 panel,
                 () -> splitPane.setDividerLocation(0.5)
         ));
 
-        TableModel tokensTableModel = new TokensTableModel(tokensModel.tokens(), tokensModel::addTokensModelListener);
+        TableModel tokensTableModel = new TokensTableModel(tokensModel);
         tokenTable.setModel(tokensTableModel);
 
         ListSelectionModel selectionModel = tokenTable.getSelectionModel();
@@ -60,11 +79,64 @@ public class TokensView {
                 return;
             }
 
-            Token token = tokensModel.tokens().get(selectionModel.getMinSelectionIndex());
+            Token token = tokensModel.getToken(selectionModel.getMinSelectionIndex());
             textAreaPayload.setText(token.claims());
         });
 
         textAreaPayload.setEditable(false);
+
+        buttonAuditWeakSecrets.addActionListener(e -> onAuditWeakSecrets());
+    }
+
+    private void onAuditWeakSecrets() {
+        if (auditModel != null && auditModel.status() == RUNNING) {
+            auditor.close();
+            return;
+        }
+
+        auditModel = new WeakSecretsFinderModel();
+        auditor = new WeakSecretAuditor(auditModel, tokensModel, logging);
+        auditedTokenCount = auditor.audit();
+
+        if (auditModel.status() == NO_TARGETS) {
+            auditor.close();
+            labelAuditStatus.setText(getResourceString("tokens_audit_none"));
+            return;
+        }
+
+        buttonAuditWeakSecrets.setText(getResourceString("tokens_audit_cancel"));
+        updateAuditStatus();
+        auditTimer.start();
+    }
+
+    private void updateAuditStatus() {
+        switch (auditModel.status()) {
+            case RUNNING -> labelAuditStatus.setText(getResourceString("tokens_audit_running").formatted(
+                    auditedTokenCount,
+                    auditModel.progress(),
+                    auditModel.candidatesPerSecond()
+            ));
+
+            case SUCCESS, COMPLETED -> finishAudit(getResourceString("tokens_audit_complete").formatted(weakSecretCount()));
+
+            case CANCELLED -> finishAudit(getResourceString("tokens_audit_cancelled"));
+
+            case NO_TARGETS -> finishAudit(getResourceString("tokens_audit_none"));
+        }
+    }
+
+    private void finishAudit(String message) {
+        auditTimer.stop();
+        auditor.close();
+
+        buttonAuditWeakSecrets.setText(getResourceString("tokens_audit_weak_secrets"));
+        labelAuditStatus.setText(message);
+    }
+
+    private long weakSecretCount() {
+        return tokensModel.tokens().stream()
+                .filter(token -> token.weakSecret() != null)
+                .count();
     }
 
     private void createUIComponents() {
@@ -0,0 +1,200 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.view.utils.table;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * Accumulates row changes to a table model from any thread and publishes them on the EDT at most once per frame.
+ * Consecutive appends become a single rows inserted event and all updates a single rows updated event, so a bulk
+ * import or a burst of captured tokens costs the EDT a handful of events rather than one per row.
+ * <p>
+ * Changes to data held by the table model are passed as mutations, which are applied on the EDT immediately before
+ * the corresponding event is fired. Table models must report {@link #rowCount()} rather than the size of any data
+ * shared with other threads, so that the table never sees rows before they are published.
+ */
+public class CoalescingTableModelUpdater {
+    public static final int DEFAULT_FRAME_INTERVAL_MS = 100;
+
+    private static final Runnable NO_MUTATION = () -> {
+    };
+
+    private final AbstractTableModel tableModel;
+    private final int frameIntervalMillis;
+    private final Timer timer;
+
+    // Guarded by this
+    private List<Change> pendingChanges;
+    private int firstUpdatedRow;
+    private int lastUpdatedRow;
+    private boolean publishScheduled;
+
+    // EDT only
+    private int rowCount;
+    private long lastPublished;
+
+    public CoalescingTableModelUpdater(AbstractTableModel tableModel, int rowCount) {
+        this(tableModel, rowCount, DEFAULT_FRAME_INTERVAL_MS);
+    }
+
+    public CoalescingTableModelUpdater(AbstractTableModel tableModel, int rowCount, int frameIntervalMillis) {
+        this.tableModel = tableModel;
+        this.rowCount = rowCount;
+        this.frameIntervalMillis = frameIntervalMillis;
+        this.timer = new Timer(frameIntervalMillis, e -> publish());
+        this.timer.setRepeats(false);
+        this.pendingChanges = new ArrayList<>();
+        this.firstUpdatedRow = Integer.MAX_VALUE;
+        this.lastUpdatedRow = -1;
+        this.lastPublished = Long.MIN_VALUE;
+    }
+
+    /**
+     * Record a row appended to data the table model reads directly
+     */
+    public void rowAppended() {
+        rowAppended(NO_MUTATION);
+    }
+
+    /**
+     * Record a row appended to the end of the table
+     *
+     * @param mutation appends the row to the data held by the table model, run on the EDT
+     */
+    public synchronized void rowAppended(Runnable mutation) {
+        pendingChanges.add(new Change(mutation, null));
+        schedulePublish();
+    }
+
+    /**
+     * Record a row deleted from the table
+     *
+     * @param mutation removes the row from the data held by the table model, run on the EDT, returning its index or -1
+     *                 if there was no such row
+     */
+    public synchronized void rowDeleted(IntSupplier mutation) {
+        pendingChanges.add(new Change(null, mutation));
+        schedulePublish();
+    }
+
+    /**
+     * Record a change to the contents of a row
+     *
+     * @param row index of the row
+     */
+    public synchronized void rowUpdated(int row) {
+        firstUpdatedRow = Math.min(firstUpdatedRow, row);
+        lastUpdatedRow = Math.max(lastUpdatedRow, row);
+        schedulePublish();
+    }
+
+    /**
+     * Must be called on the EDT
+     *
+     * @return number of rows published to the table
+     */
+    public int rowCount() {
+        return rowCount;
+    }
+
+    private void schedulePublish() {
+        if (!publishScheduled) {
+            publishScheduled = true;
+            SwingUtilities.invokeLater(this::publish);
+        }
+    }
+
+    private void publish() {
+        long now = System.currentTimeMillis();
+        long wait = lastPublished + frameIntervalMillis - now;
+
+        // Changes keep accumulating until the frame is due, so the timer's publish picks them up too
+        if (lastPublished != Long.MIN_VALUE && wait > 0) {
+            timer.setInitialDelay((int) wait);
+            timer.restart();
+            return;
+        }
+
+        List<Change> changes;
+        int firstUpdated;
+        int lastUpdated;
+
+        synchronized (this) {
+            changes = pendingChanges;
+            firstUpdated = firstUpdatedRow;
+            lastUpdated = lastUpdatedRow;
+
+            pendingChanges = new ArrayList<>();
+            firstUpdatedRow = Integer.MAX_VALUE;
+            lastUpdatedRow = -1;
+            publishScheduled = false;
+        }
+
+        lastPublished = now;
+
+        int firstInserted = -1;
+
+        for (Change change : changes) {
+            if (change.isAppend()) {
+                change.append().run();
+
+                if (firstInserted < 0) {
+                    firstInserted = rowCount;
+                }
+
+                rowCount++;
+                continue;
+            }
+
+            // Events must be fired in order, so flush any appends before the deletion
+            if (firstInserted >= 0) {
+                tableModel.fireTableRowsInserted(firstInserted, rowCount - 1);
+                firstInserted = -1;
+            }
+
+            int row = change.delete().getAsInt();
+
+            if (row >= 0) {
+                rowCount--;
+                tableModel.fireTableRowsDeleted(row, row);
+            }
+        }
+
+        if (firstInserted >= 0) {
+            tableModel.fireTableRowsInserted(firstInserted, rowCount - 1);
+        }
+
+        // Updates recorded before a deletion in this frame may refer to rows past the end of the table
+        lastUpdated = Math.min(lastUpdated, rowCount - 1);
+
+        if (firstUpdated <= lastUpdated) {
+            tableModel.fireTableRowsUpdated(firstUpdated, lastUpdated);
+        }
+    }
+
+    private record Change(Runnable append, IntSupplier delete) {
+        boolean isAppend() {
+            return append != null;
+        }
+    }
+}
@@ -20,6 +20,8 @@ package com.blackberry.jwteditor.view.weak;
 
 import burp.api.montoya.logging.Logging;
 import com.blackberry.jwteditor.model.jose.JWS;
+import com.blackberry.jwteditor.operations.weak.SearchCheckpoint;
+import com.blackberry.jwteditor.operations.weak.SearchCheckpoints;
 import com.blackberry.jwteditor.operations.weak.WeakSecretFinder;
 import com.blackberry.jwteditor.operations.weak.WeakSecretsFinderModel;
 import com.blackberry.jwteditor.utils.Utils;
@@ -29,6 +31,7 @@ import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.io.IOException;
 import java.util.Timer;
 import java.util.TimerTask;
 
@@ -41,6 +44,8 @@ public class WeakKeyAttackDialog extends JDialog {
     private final Timer timer;
     private final WeakSecretsFinderModel model;
     private final WeakSecretFinder secretFinder;
+    private final SearchCheckpoints checkpoints;
+    private final SearchCheckpoint search;
 
     private JPanel contentPane;
     private JButton buttonAction;
@@ -48,12 +53,35 @@ public class WeakKeyAttackDialog extends JDialog {
     private JButton buttonCopy;
     private JTextField textFieldSecret;
     private JLabel labelMessage;
+    private JLabel labelRate;
+
+    /**
+     * @param parent parent window
+     * @param logging logging for any search errors
+     * @param checkpoints checkpoints updated as the search progresses
+     * @param jws the JWS to attack
+     * @param search search to run, starting from its position
+     * @throws IOException if the wordlist cannot be opened
+     * @throws IllegalArgumentException if the mask or position is invalid
+     */
+    public WeakKeyAttackDialog(Window parent, Logging logging, SearchCheckpoints checkpoints, JWS jws, SearchCheckpoint search) throws IOException {
+        this(parent, logging, checkpoints, search);
+
+        try {
+            secretFinder.bruteForce(jws, search);
+        } catch (IOException | IllegalArgumentException e) {
+            close();
+            throw e;
+        }
+    }
 
-    public WeakKeyAttackDialog(Window parent, Logging logging, JWS jws) {
+    private WeakKeyAttackDialog(Window parent, Logging logging, SearchCheckpoints checkpoints, SearchCheckpoint search) {
         super(parent, "Weak HMAC Secret Attack", APPLICATION_MODAL);
 
         this.timer = new Timer();
         this.model = new WeakSecretsFinderModel();
+        this.checkpoints = checkpoints;
+        this.search = search;
 
         setContentPane(contentPane);
         getRootPane().setDefaultButton(buttonAction);
@@ -79,7 +107,6 @@ public class WeakKeyAttackDialog extends JDialog {
         timer.scheduleAtFixedRate(new UpdateTask(), 100, 100);
 
         this.secretFinder = new WeakSecretFinder(model, logging);
-        secretFinder.bruteForce(jws);
     }
 
     private void onCopy() {
@@ -90,13 +117,14 @@ public class WeakKeyAttackDialog extends JDialog {
     private void onAction() {
         switch (model.status()) {
             case RUNNING -> model.setStatus(CANCELLED);
-            case FAILED, CANCELLED, SUCCESS -> close();
+            case FAILED, CANCELLED, SUCCESS, NO_TARGETS, COMPLETED -> close();
         }
     }
 
     private void close() {
         timer.cancel();
         secretFinder.close();
+        saveCheckpoint();
 
         setVisible(false);
         dispose();
@@ -108,12 +136,40 @@ public class WeakKeyAttackDialog extends JDialog {
         setVisible(true);
     }
 
+    // Keep the checkpoint current so that the search can be resumed even if the extension is unloaded mid-search
+    private void saveCheckpoint() {
+        switch (model.status()) {
+            case RUNNING, CANCELLED -> {
+                long resumePosition = model.resumePosition();
+
+                if (resumePosition >= 0) {
+                    checkpoints.save(search.at(resumePosition));
+                }
+            }
+
+            case SUCCESS, FAILED -> checkpoints.remove(search);
+        }
+    }
+
+    private String rate() {
+        String eta = model.estimatedTimeRemaining()
+                .map(remaining -> "%d:%02d:%02d".formatted(remaining.toHours(), remaining.toMinutesPart(), remaining.toSecondsPart()))
+                .orElse("-");
+
+        return "%,d candidates/s (ETA %s)".formatted(model.candidatesPerSecond(), eta);
+    }
+
     private class UpdateTask extends TimerTask {
 
         @Override
         public void run() {
+            saveCheckpoint();
+
             switch (model.status()) {
-                case RUNNING -> invokeLater(() -> progressBar.setValue(model.progress()));
+                case RUNNING -> invokeLater(() -> {
+                    progressBar.setValue(model.progress());
+                    labelRate.setText(rate());
+                });
 
                 case SUCCESS -> invokeLater(() -> {
                     progressBar.setValue(100);
@@ -131,7 +187,9 @@ public class WeakKeyAttackDialog extends JDialog {
 
                 case CANCELLED -> invokeLater(() -> {
                     buttonAction.setText("Close");
-                    labelMessage.setText("Attack cancelled.");
+
+                    long resumePosition = model.resumePosition();
+                    labelMessage.setText(resumePosition < 0 ? "Attack cancelled." : "Attack cancelled, resume from index %d.".formatted(resumePosition));
                 });
 
                 case FAILED -> invokeLater(() -> {
@@ -171,7 +171,17 @@ public class FakeHttpRequest implements HttpRequest {
 
     @Override
     public String headerValue(String name) {
-        throw new UnsupportedOperationException();
+        String[] lines = headersToString().split("\r\n");
+
+        for (int i = 1; i < lines.length; i++) {
+            int colon = lines[i].indexOf(':');
+
+            if (colon > 0 && lines[i].substring(0, colon).equalsIgnoreCase(name)) {
+                return lines[i].substring(colon + 1).trim();
+            }
+        }
+
+        return null;
     }
 
     @Override
@@ -186,7 +196,13 @@ public class FakeHttpRequest implements HttpRequest {
 
     @Override
     public int bodyOffset() {
-        throw new UnsupportedOperationException();
+        int headersEnd = request.toString().indexOf("\r\n\r\n");
+
+        return headersEnd < 0 ? request.length() : headersEnd + 4;
+    }
+
+    private String headersToString() {
+        return request.subArray(0, bodyOffset()).toString();
     }
 
     @Override
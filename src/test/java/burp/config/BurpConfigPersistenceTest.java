@@ -54,6 +54,8 @@ class BurpConfigPersistenceTest {
         assertThat(burpConfig.proxyConfig()).isNotNull();
         assertThat(burpConfig.proxyConfig().highlightJWT()).isTrue();
         assertThat(burpConfig.proxyConfig().highlightColor()).isEqualTo(DEFAULT_HIGHLIGHT_COLOR);
+        assertThat(burpConfig.proxyConfig().deniedContentTypes()).isEmpty();
+        assertThat(burpConfig.proxyConfig().maxBodySize()).isZero();
         assertThat(burpConfig.intruderConfig()).isNotNull();
         assertThat(burpConfig.intruderConfig().fuzzParameter()).isEqualTo("name");
         assertThat(burpConfig.intruderConfig().resign()).isFalse();
@@ -65,7 +67,7 @@ class BurpConfigPersistenceTest {
 
     @Test
     void givenDefaultConfig_whenSaved_thenJsonCorrect() {
-        String expectedJson = "{\"scanner_insertion_point_provider_enabled\":false,\"intruder_payload_processor_parameter_name\":\"name\",\"proxy_history_highlight_color\":\"GREEN\",\"proxy_listener_enabled\":true,\"scanner_insertion_point_provider_parameter_name\":\"kid\",\"intruder_payload_processor_resign\":false,\"intruder_payload_processor_fuzz_location\":\"PAYLOAD\"}";
+        String expectedJson = "{\"proxy_allowed_content_types\":[],\"proxy_denied_content_types\":[],\"scanner_insertion_point_provider_enabled\":false,\"proxy_capture_tokens\":false,\"intruder_payload_processor_parameter_name\":\"name\",\"proxy_history_highlight_color\":\"GREEN\",\"proxy_listener_enabled\":true,\"proxy_max_body_size\":0,\"scanner_insertion_point_provider_parameter_name\":\"kid\",\"intruder_payload_processor_resign\":false,\"proxy_scan_headers_of_large_messages\":true,\"intruder_payload_processor_fuzz_location\":\"PAYLOAD\"}";
         BurpConfigPersistence configPersistence = new BurpConfigPersistence(callbacks);
 
         configPersistence.save(new BurpConfig());
@@ -161,6 +163,29 @@ class BurpConfigPersistenceTest {
         assertThat(burpConfig.proxyConfig().highlightColor()).isEqualTo(highlightColor);
     }
 
+    @Test
+    void givenProxySavedConfigWithTokenCapture_whenLoadOrCreateCalled_thenTokenCaptureEnabled() {
+        BurpConfigPersistence configPersistence = new BurpConfigPersistence(callbacks);
+        when(callbacks.getString(BURP_SETTINGS_NAME)).thenReturn("{\"proxy_history_highlight_color\":\"red\",\"proxy_listener_enabled\":true,\"proxy_capture_tokens\":true}");
+
+        BurpConfig burpConfig = configPersistence.loadOrCreateNew();
+
+        assertThat(burpConfig.proxyConfig().captureTokens()).isTrue();
+    }
+
+    @Test
+    void givenProxySavedConfigWithPrefilter_whenLoadOrCreateCalled_thenPrefilterLoaded() {
+        BurpConfigPersistence configPersistence = new BurpConfigPersistence(callbacks);
+        when(callbacks.getString(BURP_SETTINGS_NAME)).thenReturn("{\"proxy_history_highlight_color\":\"red\",\"proxy_listener_enabled\":true,\"proxy_allowed_content_types\":[\"application/json\",42],\"proxy_denied_content_types\":[\"Image/\"],\"proxy_max_body_size\":4096,\"proxy_scan_headers_of_large_messages\":false}");
+
+        BurpConfig burpConfig = configPersistence.loadOrCreateNew();
+
+        assertThat(burpConfig.proxyConfig().allowedContentTypes()).containsExactly("application/json");
+        assertThat(burpConfig.proxyConfig().deniedContentTypes()).containsExactly("image/");
+        assertThat(burpConfig.proxyConfig().maxBodySize()).isEqualTo(4096);
+        assertThat(burpConfig.proxyConfig().scanHeadersOfLargeMessages()).isFalse();
+    }
+
     private static Stream<String> invalidIntruderConfigJson() {
         return Stream.of(
                 "{\"intruder_payload_processor_fuzz_location\":\"header\"}",
@@ -419,7 +444,7 @@ class BurpConfigPersistenceTest {
 
     @Test
     void givenValidConfig_whenRoundTripped_thenJsonIsCorrect() {
-        String json = "{\"scanner_insertion_point_provider_enabled\":false,\"intruder_payload_processor_parameter_name\":\"name\",\"proxy_history_highlight_color\":\"GREEN\",\"proxy_listener_enabled\":true,\"scanner_insertion_point_provider_parameter_name\":\"kid\",\"intruder_payload_processor_resign\":false,\"intruder_payload_processor_fuzz_location\":\"PAYLOAD\"}";
+        String json = "{\"proxy_allowed_content_types\":[],\"proxy_denied_content_types\":[],\"scanner_insertion_point_provider_enabled\":false,\"proxy_capture_tokens\":false,\"intruder_payload_processor_parameter_name\":\"name\",\"proxy_history_highlight_color\":\"GREEN\",\"proxy_listener_enabled\":true,\"proxy_max_body_size\":0,\"scanner_insertion_point_provider_parameter_name\":\"kid\",\"intruder_payload_processor_resign\":false,\"proxy_scan_headers_of_large_messages\":true,\"intruder_payload_processor_fuzz_location\":\"PAYLOAD\"}";
         BurpConfigPersistence configPersistence = new BurpConfigPersistence(callbacks);
         when(callbacks.getString(BURP_SETTINGS_NAME)).thenReturn(json);
 
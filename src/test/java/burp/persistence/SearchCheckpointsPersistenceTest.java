@@ -0,0 +1,127 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package burp.persistence;
+
+import burp.api.montoya.persistence.PersistedObject;
+import com.blackberry.jwteditor.operations.weak.SearchCheckpoint;
+import com.blackberry.jwteditor.operations.weak.SearchCheckpoints;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static burp.persistence.SearchCheckpointsPersistence.CHECKPOINTS_JSON_KEY;
+import static com.blackberry.jwteditor.operations.weak.SearchCheckpoint.WordlistType.FILE;
+import static com.blackberry.jwteditor.operations.weak.SearchCheckpoint.WordlistType.MASK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SearchCheckpointsPersistenceTest {
+    private static final SearchCheckpoint FILE_CHECKPOINT = new SearchCheckpoint("c0ffee", FILE, "/tmp/rockyou.txt.gz", true, 123456);
+    private static final SearchCheckpoint MASK_CHECKPOINT = new SearchCheckpoint("c0ffee", MASK, "?l?l?d", false, 42);
+
+    private final PersistedObject extensionData = mock(PersistedObject.class);
+
+    @Test
+    void givenNotProVersion_whenLoad_thenExtensionDataNotCalled() {
+        SearchCheckpointsPersistence persistence = new SearchCheckpointsPersistence(false, extensionData);
+
+        SearchCheckpoints checkpoints = persistence.loadOrCreateNew();
+
+        assertThat(checkpoints.checkpoints()).isEmpty();
+        verifyNoInteractions(extensionData);
+    }
+
+    @Test
+    void givenNotProVersion_whenSave_thenExtensionDataNotCalled() {
+        SearchCheckpointsPersistence persistence = new SearchCheckpointsPersistence(false, extensionData);
+
+        persistence.save(new SearchCheckpoints(List.of(FILE_CHECKPOINT)));
+
+        verifyNoInteractions(extensionData);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "not json",
+            "[]",
+            "[{}]",
+            "[{\"token\":\"c0ffee\",\"wordlist_type\":\"UNKNOWN\",\"wordlist\":\"\",\"mutation_rules\":false,\"position\":1}]",
+            "[{\"token\":\"c0ffee\",\"wordlist_type\":\"BUNDLED\",\"wordlist\":\"\",\"mutation_rules\":false,\"position\":-1}]"
+    })
+    void givenInvalidCheckpoints_whenLoad_thenNoCheckpointsLoaded(String checkpointsJson) {
+        when(extensionData.getString(CHECKPOINTS_JSON_KEY)).thenReturn(checkpointsJson);
+        SearchCheckpointsPersistence persistence = new SearchCheckpointsPersistence(true, extensionData);
+
+        SearchCheckpoints checkpoints = persistence.loadOrCreateNew();
+
+        assertThat(checkpoints.checkpoints()).isEmpty();
+    }
+
+    @Test
+    void givenSavedCheckpoints_whenLoaded_thenCheckpointsRestored() {
+        SearchCheckpointsPersistence persistence = new SearchCheckpointsPersistence(true, extensionData);
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+
+        persistence.save(new SearchCheckpoints(List.of(FILE_CHECKPOINT, MASK_CHECKPOINT)));
+
+        verify(extensionData).setString(eq(CHECKPOINTS_JSON_KEY), json.capture());
+        when(extensionData.getString(CHECKPOINTS_JSON_KEY)).thenReturn(json.getValue());
+
+        SearchCheckpoints checkpoints = persistence.loadOrCreateNew();
+
+        assertThat(checkpoints.checkpoints()).containsExactly(FILE_CHECKPOINT, MASK_CHECKPOINT);
+        assertThat(checkpoints.find(FILE_CHECKPOINT.at(0))).contains(FILE_CHECKPOINT);
+    }
+
+    @Test
+    void givenAutoSave_whenCheckpointUpdated_thenSavedWithoutUnloading() {
+        SearchCheckpointsPersistence persistence = new SearchCheckpointsPersistence(true, extensionData, 10);
+        SearchCheckpoints checkpoints = new SearchCheckpoints();
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        persistence.autoSave(checkpoints);
+
+        try {
+            checkpoints.save(FILE_CHECKPOINT);
+
+            verify(extensionData, timeout(5000)).setString(eq(CHECKPOINTS_JSON_KEY), json.capture());
+        } finally {
+            persistence.close();
+        }
+
+        when(extensionData.getString(CHECKPOINTS_JSON_KEY)).thenReturn(json.getValue());
+        assertThat(persistence.loadOrCreateNew().checkpoints()).containsExactly(FILE_CHECKPOINT);
+    }
+
+    @Test
+    void givenAutoSave_whenCheckpointsUnchanged_thenNotSaved() throws InterruptedException {
+        SearchCheckpointsPersistence persistence = new SearchCheckpointsPersistence(true, extensionData, 10);
+        SearchCheckpoints checkpoints = new SearchCheckpoints(List.of(FILE_CHECKPOINT));
+        persistence.autoSave(checkpoints);
+
+        Thread.sleep(100);
+        persistence.close();
+
+        verify(extensionData, never()).setString(anyString(), anyString());
+    }
+}
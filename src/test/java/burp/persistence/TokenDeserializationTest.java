@@ -18,10 +18,13 @@ limitations under the License.
 
 package burp.persistence;
 
+import com.blackberry.jwteditor.model.jose.JOSEScanCache.ContentKey;
 import com.blackberry.jwteditor.model.tokens.Token;
 import org.json.JSONObject;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class TokenDeserializationTest {
@@ -126,4 +129,62 @@ class TokenDeserializationTest {
         assertThat(token.keyId()).isEqualTo("");
         assertThat(token.claims()).isEqualToIgnoringWhitespace("{\"name\": \"John Doe\"}");
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenValidRow_whenDeserializeRow_thenTokenReturnedWithoutLoadingJws() {
+        String json = "{\"id\": 5, \"host\": \"host\", \"path\": \"path\", \"alg\": \"HS256\", \"kid\": \"emanon\"}";
+        AtomicInteger loads = new AtomicInteger();
+
+        Token token = TokenPersistence.deserializeRow(new JSONObject(json), () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        assertThat(token).isNotNull();
+        assertThat(token.id()).isEqualTo(5);
+        assertThat(token.algorithm()).isEqualTo("HS256");
+        assertThat(token.keyId()).isEqualTo("emanon");
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void givenRowWithHashCountersAndWeakSecret_whenDeserializeRow_thenRestoredWithoutLoadingJws() {
+        String json = "{\"id\": 5, \"host\": \"host\", \"path\": \"path\", \"alg\": \"none\", \"kid\": \"\", \"sha256\": \"87d41eaa165483e7cba3d2fde1cf164e3fca27b3dd205cf813cf8195ffeb21db\", \"hits\": 3, \"first\": 1000, \"last\": 9000, \"secret\": \"secret1\"}";
+        AtomicInteger loads = new AtomicInteger();
+
+        Token token = TokenPersistence.deserializeRow(new JSONObject(json), () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        assertThat(token).isNotNull();
+        assertThat(token.contentKey()).isEqualTo(ContentKey.of("eyJhbGciOiJub25lIiwidHlwIjoiSldUIn0.eyJuYW1lIjoiSm9obiBEb2UifQ."));
+        assertThat(token.hitCount()).isEqualTo(3);
+        assertThat(token.firstSeen()).isEqualTo(1000);
+        assertThat(token.lastSeen()).isEqualTo(9000);
+        assertThat(token.weakSecret()).isEqualTo("secret1");
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void givenRowWithoutCountersOrWeakSecret_whenDeserializeRow_thenCountersZeroAndNoSecret() {
+        String json = "{\"id\": 5, \"host\": \"host\", \"path\": \"path\", \"alg\": \"HS256\", \"kid\": \"emanon\"}";
+
+        Token token = TokenPersistence.deserializeRow(new JSONObject(json), () -> null);
+
+        assertThat(token).isNotNull();
+        assertThat(token.hitCount()).isZero();
+        assertThat(token.firstSeen()).isZero();
+        assertThat(token.lastSeen()).isZero();
+        assertThat(token.weakSecret()).isNull();
+    }
+
+    @Test
+    void givenRowWithNoAlgorithm_whenDeserializeRow_thenNullReturned() {
+        String json = "{\"id\": 5, \"host\": \"host\", \"path\": \"path\", \"kid\": \"emanon\"}";
+
+        Token token = TokenPersistence.deserializeRow(new JSONObject(json), () -> null);
+
+        assertThat(token).isNull();
+    }
+}
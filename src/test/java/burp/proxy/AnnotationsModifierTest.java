@@ -21,22 +21,23 @@ package burp.proxy;
 import burp.api.montoya.core.Annotations;
 import burp.api.montoya.core.FakeAnnotations;
 import burp.api.montoya.core.FakeByteArray;
-import burp.api.montoya.utilities.ByteUtils;
-import burp.api.montoya.utilities.FakeByteUtils;
+import burp.api.montoya.http.FakeHttpRequest;
+import burp.api.montoya.http.message.requests.HttpRequest;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import static burp.proxy.HighlightColor.GREEN;
+import static java.nio.charset.StandardCharsets.US_ASCII;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 class AnnotationsModifierTest {
     private final ProxyConfig config = new ProxyConfig();
-    private final ByteUtils byteUtils = new FakeByteUtils();
-    private final AnnotationsModifier annotationsModifier = new AnnotationsModifier(config, byteUtils);
+    private final AnnotationsModifier annotationsModifier = new AnnotationsModifier(config);
 
     private static Stream<Arguments> data() {
         return Stream.of(
@@ -71,6 +72,111 @@ class AnnotationsModifierTest {
         assertThat(annotations.notes()).isEqualTo(expectedComment);
     }
 
+    @MethodSource("data")
+    @ParameterizedTest
+    void givenJWTWithinBinaryData_whenHighlightJWTTrue_thenCommentAndHighlightUpdated(String data, String expectedComment) {
+        Annotations annotations = new FakeAnnotations();
+        config.setHighlightColor(GREEN);
+        config.setHighlightJWT(true);
+
+        byte[] token = data.getBytes(US_ASCII);
+        byte[] message = new byte[token.length + 4];
+        message[0] = (byte) 0xFF;
+        message[1] = (byte) 0x80;
+        System.arraycopy(token, 0, message, 2, token.length);
+        message[message.length - 2] = (byte) 0xC3;
+        message[message.length - 1] = 0;
+
+        annotationsModifier.updateAnnotationsIfApplicable(annotations, new FakeByteArray(message));
+
+        assertThat(annotations.highlightColor()).isEqualTo(GREEN.burpColor);
+        assertThat(annotations.notes()).isEqualTo(expectedComment);
+    }
+
+    @MethodSource("data")
+    @ParameterizedTest
+    void givenJWTInBodyOfAllowedContentType_whenHighlightJWTTrue_thenCommentAndHighlightUpdated(String data, String expectedComment) {
+        Annotations annotations = new FakeAnnotations();
+        config.setHighlightJWT(true);
+
+        annotationsModifier.updateAnnotationsIfApplicable(annotations, httpMessage("application/json", "", "{\"token\":\"" + data + "\"}"));
+
+        assertThat(annotations.notes()).isEqualTo(expectedComment);
+    }
+
+    @MethodSource("data")
+    @ParameterizedTest
+    void givenJWTInBodyOfAnyContentType_whenDefaultConfig_thenCommentAndHighlightUpdated(String data, String expectedComment) {
+        Annotations annotations = new FakeAnnotations();
+        config.setHighlightJWT(true);
+
+        annotationsModifier.updateAnnotationsIfApplicable(annotations, httpMessage("image/png", "", data));
+
+        assertThat(annotations.notes()).isEqualTo(expectedComment);
+    }
+
+    @MethodSource("data")
+    @ParameterizedTest
+    void givenJWTInBodyOfDeniedContentType_whenHighlightJWTTrue_thenCommentAndHighlightNotSet(String data, String expectedComment) {
+        Annotations annotations = new FakeAnnotations();
+        config.setHighlightJWT(true);
+        config.setDeniedContentTypes(List.of("image/"));
+
+        annotationsModifier.updateAnnotationsIfApplicable(annotations, httpMessage("image/png", "", data));
+
+        assertThat(annotations.highlightColor()).isNull();
+        assertThat(annotations.notes()).isNull();
+    }
+
+    @MethodSource("data")
+    @ParameterizedTest
+    void givenJWTInBodyNotInAllowList_whenHighlightJWTTrue_thenCommentAndHighlightNotSet(String data, String expectedComment) {
+        Annotations annotations = new FakeAnnotations();
+        config.setHighlightJWT(true);
+        config.setAllowedContentTypes(List.of("application/json"));
+
+        annotationsModifier.updateAnnotationsIfApplicable(annotations, httpMessage("text/html", "", data));
+
+        assertThat(annotations.notes()).isNull();
+    }
+
+    @MethodSource("data")
+    @ParameterizedTest
+    void givenJWTInHeaderOfDeniedContentType_whenHighlightJWTTrue_thenCommentAndHighlightUpdated(String data, String expectedComment) {
+        Annotations annotations = new FakeAnnotations();
+        config.setHighlightJWT(true);
+        config.setDeniedContentTypes(List.of("image/"));
+
+        annotationsModifier.updateAnnotationsIfApplicable(annotations, httpMessage("image/png", "Authorization: Bearer " + data + "\r\n", "\u0089PNG"));
+
+        assertThat(annotations.notes()).isEqualTo(expectedComment);
+    }
+
+    @MethodSource("data")
+    @ParameterizedTest
+    void givenJWTInHeaderOfLargeMessage_whenHeadersOfLargeMessagesScanned_thenOnlyHeaderCounted(String data, String expectedComment) {
+        Annotations annotations = new FakeAnnotations();
+        config.setHighlightJWT(true);
+        config.setMaxBodySize(data.length());
+
+        annotationsModifier.updateAnnotationsIfApplicable(annotations, httpMessage("text/plain", "Authorization: Bearer " + data + "\r\n", data + " " + data));
+
+        assertThat(annotations.notes()).isEqualTo(expectedComment);
+    }
+
+    @MethodSource("data")
+    @ParameterizedTest
+    void givenJWTInHeaderOfLargeMessage_whenHeadersOfLargeMessagesNotScanned_thenCommentAndHighlightNotSet(String data, String expectedComment) {
+        Annotations annotations = new FakeAnnotations();
+        config.setHighlightJWT(true);
+        config.setMaxBodySize(data.length());
+        config.setScanHeadersOfLargeMessages(false);
+
+        annotationsModifier.updateAnnotationsIfApplicable(annotations, httpMessage("text/plain", "Authorization: Bearer " + data + "\r\n", data + " " + data));
+
+        assertThat(annotations.notes()).isNull();
+    }
+
     @MethodSource("data")
     @ParameterizedTest
     void givenJWTStrings_whenHighlightJWTFalse_thenCommentAndHighlightNotSet(String data, String expectedComment) {
@@ -96,4 +202,10 @@ class AnnotationsModifierTest {
         assertThat(annotations.highlightColor()).isNull();
         assertThat(annotations.notes()).isNull();
     }
-}
\ No newline at end of file
+
+    private static HttpRequest httpMessage(String contentType, String headers, String body) {
+        String request = "POST / HTTP/1.1\r\nHost: example.com\r\nContent-Type: " + contentType + "\r\n" + headers + "\r\n" + body;
+
+        return new FakeHttpRequest(new FakeByteArray(request));
+    }
+}
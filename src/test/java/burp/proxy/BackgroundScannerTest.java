@@ -0,0 +1,94 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2024 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package burp.proxy;
+
+import burp.api.montoya.logging.StubLogging;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BackgroundScannerTest {
+    private final List<String> errors = new ArrayList<>();
+    private final StubLogging logging = new StubLogging() {
+        @Override
+        public void logToError(String message) {
+            errors.add(message);
+        }
+    };
+
+    @Test
+    void givenQueueFull_whenTaskSubmitted_thenTaskDroppedAndCounted() throws InterruptedException {
+        BackgroundScanner scanner = new BackgroundScanner(logging, 1, 1);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            assertThat(scanner.submit(() -> {
+                running.countDown();
+                await(release);
+            })).isTrue();
+            assertThat(running.await(5, SECONDS)).isTrue();
+
+            assertThat(scanner.submit(() -> {})).isTrue();
+            assertThat(scanner.queueDepth()).isEqualTo(1);
+
+            assertThat(scanner.submit(() -> {})).isFalse();
+            assertThat(scanner.dropped()).isEqualTo(1);
+            assertThat(errors).hasSize(1);
+        } finally {
+            release.countDown();
+            scanner.shutdown();
+        }
+    }
+
+    @Test
+    void givenScannerShutdown_whenTaskSubmitted_thenTaskDropped() {
+        BackgroundScanner scanner = new BackgroundScanner(logging);
+        scanner.shutdown();
+
+        assertThat(scanner.submit(() -> {})).isFalse();
+        assertThat(scanner.dropped()).isEqualTo(1);
+    }
+
+    @Test
+    void givenRepeatedDrops_whenTasksSubmitted_thenDropsLoggedPeriodically() {
+        BackgroundScanner scanner = new BackgroundScanner(logging);
+        scanner.shutdown();
+
+        for (int i = 0; i < 2 * BackgroundScanner.DROP_LOG_INTERVAL; i++) {
+            scanner.submit(() -> {});
+        }
+
+        assertThat(scanner.dropped()).isEqualTo(2 * BackgroundScanner.DROP_LOG_INTERVAL);
+        assertThat(errors).hasSize(3);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
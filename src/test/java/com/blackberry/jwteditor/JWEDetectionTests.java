@@ -19,6 +19,7 @@ limitations under the License.
 package com.blackberry.jwteditor;
 
 import com.blackberry.jwteditor.model.jose.JOSEObject;
+import com.blackberry.jwteditor.model.jose.JOSEObjectKind;
 import com.blackberry.jwteditor.model.jose.JWE;
 import com.blackberry.jwteditor.model.jose.MutableJOSEObject;
 import org.junit.jupiter.api.Test;
@@ -106,6 +107,20 @@ class JWEDetectionTests {
         assertThat(containsJOSEObjects(joseObjectString)).isFalse();
     }
 
+    @ParameterizedTest
+    @MethodSource("validJwe")
+    void testClassifyValidJWEFromWithinData(String joseObjectString) {
+        String text = "Authorization: Bearer " + joseObjectString + "\r\n" + joseObjectString;
+
+        assertThat(classifyJOSEObjects(text)).containsExactly(JOSEObjectKind.JWE);
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidJwe")
+    void testClassifyInvalidJWE(String joseObjectString) {
+        assertThat(classifyJOSEObjects(joseObjectString)).isEmpty();
+    }
+
     @ParameterizedTest
     @MethodSource("validJwe")
     void testParseValidJWE(String joseObjectString) {
@@ -19,6 +19,7 @@ limitations under the License.
 package com.blackberry.jwteditor;
 
 import com.blackberry.jwteditor.model.jose.JOSEObject;
+import com.blackberry.jwteditor.model.jose.JOSEObjectKind;
 import com.blackberry.jwteditor.model.jose.JWS;
 import com.blackberry.jwteditor.model.jose.MutableJOSEObject;
 import org.junit.jupiter.api.Test;
@@ -152,6 +153,20 @@ class JWSDetectionTests {
         assertThat(containsJOSEObjects(joseObjectString)).isFalse();
     }
 
+    @ParameterizedTest
+    @MethodSource("validJws")
+    void testClassifyValidJWSFromWithinData(String joseObjectString) {
+        String text = "Authorization: Bearer " + joseObjectString + "\r\n" + joseObjectString;
+
+        assertThat(classifyJOSEObjects(text)).containsExactly(JOSEObjectKind.JWS);
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidJws")
+    void testClassifyInvalidJWS(String joseObjectString) {
+        assertThat(classifyJOSEObjects(joseObjectString)).isEmpty();
+    }
+
     @ParameterizedTest
     @MethodSource("validJws")
     void testParseValidJWS(String joseObjectString) {
@@ -61,6 +61,68 @@ class KeyRingTest {
         assertThat(keyOptional.get().getID()).isEqualTo("3");
     }
 
+    @Test
+    void givenKeyRingWithCorrectKeyAfterManyWrongKeys_whenVerifyJWS_thenKeyReturned() throws ParseException {
+        KeyRing keyRing = keyRing()
+                .withRSAKey(RSA1024Private)
+                .withRSAKey(RSA2048Private)
+                .withRSAKey(RSA2048Public)
+                .withRSAKey(RSA3072Public)
+                .withECKey(SECP256K1PrivateSEC1)
+                .withECKey(SECP384R1Public)
+                .withECKey(SECP521R1Public)
+                .withOKPKey(ED25519Public)
+                .withOKPKey(ED448Public)
+                .withECKey(PRIME256v1PrivateSEC1)
+                .build();
+        JWS jws = JWSFactory.parse(TEST_JWS);
+
+        Optional<Key> keyOptional = keyRing.findVerifyingKey(jws);
+
+        assertThat(keyOptional).isPresent();
+        assertThat(keyOptional.get().getID()).isEqualTo("10");
+    }
+
+    @Test
+    void givenKeyRingWithSeveralCorrectKeys_whenVerifyJWS_thenFirstReturned() throws ParseException {
+        KeyRing keyRing = keyRing()
+                .withECKey(PRIME256v1Public)
+                .withRSAKey(RSA2048Private)
+                .withRSAKey(RSA4096Public)
+                .withECKey(PRIME256v1PrivateSEC1)
+                .build();
+        JWS jws = JWSFactory.parse(TEST_JWS);
+
+        Optional<Key> keyOptional = keyRing.findVerifyingKey(jws);
+
+        assertThat(keyOptional).isPresent();
+        assertThat(keyOptional.get().getID()).isEqualTo("1");
+    }
+
+    @Test
+    void givenKeyRingWithSeveralCorrectKeysAfterManyWrongKeys_whenVerifyJWS_thenFirstReturned() throws ParseException {
+        for (int i = 0; i < 10; i++) {
+            KeyRing keyRing = keyRing()
+                    .withRSAKey(RSA1024Private)
+                    .withRSAKey(RSA2048Private)
+                    .withRSAKey(RSA2048Public)
+                    .withRSAKey(RSA3072Public)
+                    .withECKey(SECP256K1PrivateSEC1)
+                    .withECKey(SECP384R1Public)
+                    .withECKey(SECP521R1Public)
+                    .withOKPKey(ED25519Public)
+                    .withECKey(PRIME256v1Public)
+                    .withECKey(PRIME256v1PrivateSEC1)
+                    .build();
+            JWS jws = JWSFactory.parse(TEST_JWS);
+
+            Optional<Key> keyOptional = keyRing.findVerifyingKey(jws);
+
+            assertThat(keyOptional).isPresent();
+            assertThat(keyOptional.get().getID()).isEqualTo("9");
+        }
+    }
+
     @Test
     void givenKeyRingEmpty_whenDecryptJWE_thenEmptyReturned() throws ParseException {
         KeyRing keyRing = keyRing().build();
@@ -18,11 +18,13 @@ limitations under the License.
 
 package com.blackberry.jwteditor;
 
+import com.blackberry.jwteditor.model.keys.JWKKey;
 import com.blackberry.jwteditor.model.keys.Key;
 import com.blackberry.jwteditor.model.keys.KeysModel;
 import com.blackberry.jwteditor.model.keys.KeysModelListener;
 import com.blackberry.jwteditor.model.keys.KeysModelListener.InertKeysModelListener;
 import com.blackberry.jwteditor.model.keys.PasswordKey;
+import com.nimbusds.jose.JOSEException;
 import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -30,6 +32,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static com.blackberry.jwteditor.KeysModelBuilder.keysModel;
+import static com.blackberry.jwteditor.model.keys.KeyType.*;
 import static data.PemData.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -207,4 +210,75 @@ class KeysModelTest {
 
         assertThat(keyExists).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenKeyModelWithMixedKeys_thenKeysIndexedByCapability() {
+        KeysModel model = keysModel()
+                .withRSAKey(RSA2048Private)
+                .withECKey(PRIME256v1Public)
+                .withOKPKey(X25519Private)
+                .build();
+
+        assertThat(model.getSigningKeys()).extracting(Key::getID).containsExactly("1");
+        assertThat(model.getVerificationKeys()).extracting(Key::getID).containsExactly("1", "2");
+        assertThat(model.getEncryptionKeys()).extracting(Key::getID).containsExactly("1", "2", "3");
+        assertThat(model.getDecryptionKeys()).extracting(Key::getID).containsExactly("1", "3");
+    }
+
+    @Test
+    void givenKeyModelWithMixedKeys_thenKeysIndexedByType() {
+        KeysModel model = keysModel()
+                .withRSAKey(RSA1024Private)
+                .withECKey(PRIME256v1Public)
+                .withRSAKey(RSA2048Public)
+                .withKey(new PasswordKey("testKeyId", "secret", 8, 1337))
+                .build();
+
+        assertThat(model.getKeys(RSA)).extracting(Key::getID).containsExactly("1", "3");
+        assertThat(model.getKeys(EC)).extracting(Key::getID).containsExactly("2");
+        assertThat(model.getKeys(OCT)).isEmpty();
+    }
+
+    @Test
+    void givenPrivateAndPublicFormsOfKey_thenBothFoundByThumbprint() throws JOSEException {
+        KeysModel model = keysModel()
+                .withECKey(PRIME256v1PrivateSEC1)
+                .withRSAKey(RSA1024Public)
+                .withECKey(PRIME256v1Public)
+                .build();
+        String thumbprint = ((JWKKey) model.getKey("1")).getJWK().computeThumbprint().toString();
+
+        assertThat(model.getKeysWithThumbprint(thumbprint)).extracting(Key::getID).containsExactly("1", "3");
+        assertThat(model.getKeysWithThumbprint("unknown")).isEmpty();
+    }
+
+    @Test
+    void givenKeyDeleted_thenIndexesAndPositionsUpdated() {
+        KeysModel model = keysModel()
+                .withRSAKey(RSA1024Private)
+                .withRSAKey(RSA2048Private)
+                .withRSAKey(RSA3072Private)
+                .build();
+
+        model.deleteKey("2");
+
+        assertThat(model.getKey(1).getID()).isEqualTo("3");
+        assertThat(model.getSigningKeys()).extracting(Key::getID).containsExactly("1", "3");
+        assertThat(model.getKeys(RSA)).extracting(Key::getID).containsExactly("1", "3");
+    }
+
+    @Test
+    void givenKeyReplaced_thenReplacementKeepsPosition() {
+        Key replacement = new PasswordKey("first", "shrubbery", 8, 1337);
+        KeysModel model = keysModel()
+                .withKey(new PasswordKey("first", "secret", 8, 1337))
+                .withKey(new PasswordKey("second", "secret", 8, 1337))
+                .build();
+
+        model.addKey(replacement);
+
+        assertThat(model.getKey(0)).isSameAs(replacement);
+        assertThat(model.getKey(1).getID()).isEqualTo("second");
+        assertThat(model.getEncryptionKeys()).containsExactly(replacement, model.getKey(1));
+    }
+}
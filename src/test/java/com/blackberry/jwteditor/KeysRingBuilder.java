@@ -20,6 +20,7 @@ package com.blackberry.jwteditor;
 
 import com.blackberry.jwteditor.exceptions.PemException;
 import com.blackberry.jwteditor.exceptions.UnsupportedKeyException;
+import com.blackberry.jwteditor.model.jose.JWSOperationCache;
 import com.blackberry.jwteditor.model.keys.JWKKeyFactory;
 import com.blackberry.jwteditor.model.keys.Key;
 import com.blackberry.jwteditor.model.keys.KeyRing;
@@ -28,9 +29,12 @@ import com.nimbusds.jose.jwk.JWK;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 
 class KeysRingBuilder {
+    private static final ExecutorService VERIFIER_EXECUTOR = KeyRing.newVerifierExecutor();
+
     private final AtomicInteger keyId = new AtomicInteger();
     private final List<Key> keys = new LinkedList<>();
 
@@ -68,7 +72,7 @@ class KeysRingBuilder {
     }
 
     KeyRing build() {
-        return new KeyRing(keys);
+        return new KeyRing(keys, new JWSOperationCache(), VERIFIER_EXECUTOR);
     }
 
     static KeysRingBuilder keyRing() {
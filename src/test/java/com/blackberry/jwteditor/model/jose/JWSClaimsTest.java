@@ -29,6 +29,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 class JWSClaimsTest {
 
+    @Test
+    void givenJWSWithJsonClaims_thenDecodedClaimsAndTimeClaimsMemoised() throws ParseException {
+        JWS jws = JWSFactory.parse("eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.eyJleHAiOjE1MTYyMzkwMjJ9.");
+
+        JWSClaims claims = jws.claims();
+
+        assertThat(claims.decoded()).isSameAs(claims.decoded());
+        assertThat(claims.timeClaims()).hasSize(1).isSameAs(claims.timeClaims());
+    }
+
     @Test
     void givenJWSWithJsonClaims_thenClaimsTypeIsCorrect() throws ParseException {
         JWS jws = JWSFactory.parse("eyJ0eXAiOiJKV1QiLCJhbGciOiJub25lIn0.eyJzdWIiOiIxMjM0NTY3ODkwIiwibmFtZSI6IkpvaG4gRG9lIiwiYWRtaW4iOnRydWV9.");
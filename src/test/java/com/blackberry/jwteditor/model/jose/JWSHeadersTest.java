@@ -33,6 +33,18 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 class JWSHeadersTest {
 
+    @Test
+    void givenHeaderJsonModifiedByCaller_thenHeaderValuesUnchanged() throws ParseException {
+        JWS jws = JWSFactory.parse("eyJ0eXAiOiJKV1QiLCJhbGciOiJub25lIn0.eyJzdWIiOiIxMjM0NTY3ODkwIiwibmFtZSI6IkpvaG4gRG9lIiwiYWRtaW4iOnRydWV9.");
+
+        assertThat(jws.header().algorithm()).isEqualTo("none");
+        jws.header().json().put("alg", "HS256");
+
+        assertThat(jws.header().algorithm()).isEqualTo("none");
+        assertThat(jws.header().json().getString("alg")).isEqualTo("none");
+        assertThat(jws.header().keyId()).isEmpty();
+    }
+
     @Test
     void givenJWSWithCompactHeader_thenHeaderIsCompact() throws ParseException {
         JWS jws = JWSFactory.parse("eyJ0eXAiOiJKV1QiLCJhbGciOiJub25lIn0.eyJzdWIiOiIxMjM0NTY3ODkwIiwibmFtZSI6IkpvaG4gRG9lIiwiYWRtaW4iOnRydWV9.");
@@ -0,0 +1,124 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2024 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.model.jose;
+
+import com.blackberry.jwteditor.model.keys.JWKKeyFactory;
+import com.blackberry.jwteditor.model.keys.Key;
+import com.blackberry.jwteditor.model.keys.KeysModel;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.jwk.OctetSequenceKey;
+import com.nimbusds.jose.jwk.gen.OctetSequenceKeyGenerator;
+import com.nimbusds.jose.util.Base64URL;
+import org.junit.jupiter.api.Test;
+
+import static com.nimbusds.jose.JWSAlgorithm.HS256;
+import static com.nimbusds.jose.JWSAlgorithm.HS384;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JWSOperationCacheTest {
+    private static final Base64URL HEADER = Base64URL.encode("{\"alg\":\"HS256\"}");
+    private static final Base64URL PAYLOAD = Base64URL.encode("{\"sub\":\"Test\"}");
+
+    @Test
+    void givenSameKeyAndAlgorithm_whenSignerRequestedTwice_thenSameInstanceReturned() throws Exception {
+        JWSOperationCache cache = new JWSOperationCache();
+        Key key = hmacKey("1");
+
+        JWSSigner first = cache.signer(key, HS256);
+        JWSSigner second = cache.signer(key, HS256);
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void givenDifferentAlgorithms_whenSignerRequested_thenSeparateInstancesCached() throws Exception {
+        JWSOperationCache cache = new JWSOperationCache();
+        Key key = hmacKey("1");
+
+        JWSSigner hs256 = cache.signer(key, HS256);
+        JWSSigner hs384 = cache.signer(key, HS384);
+
+        assertThat(hs384).isNotSameAs(hs256);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void givenDifferentKeyWithSameId_whenVerifierRequested_thenNewInstanceBuilt() throws Exception {
+        JWSOperationCache cache = new JWSOperationCache();
+
+        com.nimbusds.jose.JWSVerifier first = cache.verifier(hmacKey("1"), HS256);
+        com.nimbusds.jose.JWSVerifier second = cache.verifier(hmacKey("1"), HS256);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(cache.hits()).isZero();
+    }
+
+    @Test
+    void givenCachedOperations_whenKeyIdInvalidated_thenOnlyThatKeyDiscarded() throws Exception {
+        JWSOperationCache cache = new JWSOperationCache();
+        Key key1 = hmacKey("1");
+        Key key2 = hmacKey("2");
+        cache.signer(key1, HS256);
+        cache.verifier(key1, HS256);
+        cache.signer(key2, HS256);
+
+        cache.invalidate("1");
+
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void givenCachedSignerAndVerifier_whenJWSSignedAndVerified_thenVerificationSucceeds() throws Exception {
+        JWSOperationCache cache = new JWSOperationCache();
+        Key key = hmacKey("1");
+
+        JWS jws = JWSFactory.sign(cache, key, HS256, HEADER, PAYLOAD);
+        JWS resigned = JWSFactory.sign(cache, key, HS256, HEADER, PAYLOAD);
+
+        assertThat(resigned.serialize()).isEqualTo(jws.serialize());
+        assertThat(jws.verify(key, new JWSHeader(HS256), cache)).isTrue();
+        assertThat(jws.verify(key, new JWSHeader(HS256), cache)).isTrue();
+        assertThat(cache.hits()).isEqualTo(2);
+    }
+
+    @Test
+    void givenKeysModel_whenKeyDeletedOrReplaced_thenCachedOperationsInvalidated() throws Exception {
+        KeysModel model = new KeysModel();
+        Key key = hmacKey("1");
+        model.addKey(key);
+        model.operationCache().signer(key, HS256);
+
+        model.addKey(hmacKey("1"));
+
+        assertThat(model.operationCache().size()).isZero();
+
+        Key replacement = model.getKey("1");
+        model.operationCache().verifier(replacement, HS256);
+        model.deleteKey("1");
+
+        assertThat(model.operationCache().size()).isZero();
+    }
+
+    private static Key hmacKey(String keyId) throws Exception {
+        OctetSequenceKey jwk = new OctetSequenceKeyGenerator(256).keyID(keyId).generate();
+        return JWKKeyFactory.from(jwk);
+    }
+}
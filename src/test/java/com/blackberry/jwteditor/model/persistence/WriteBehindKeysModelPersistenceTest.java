@@ -0,0 +1,109 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2024 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.model.persistence;
+
+import com.blackberry.jwteditor.model.keys.KeysModel;
+import com.blackberry.jwteditor.model.keys.PasswordKey;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WriteBehindKeysModelPersistenceTest {
+
+    @Test
+    void givenManySavesWithinWindow_whenFlushed_thenWrittenOnce() {
+        RecordingKeysModelPersistence delegate = new RecordingKeysModelPersistence();
+        WriteBehindKeysModelPersistence persistence = new WriteBehindKeysModelPersistence(delegate, 60_000);
+        KeysModel model = new KeysModel();
+
+        for (int i = 0; i < 1000; i++) {
+            model.addKey(new PasswordKey("key" + i, "secret", 8, 1337));
+            persistence.save(model);
+        }
+
+        assertThat(delegate.saved).isEmpty();
+
+        persistence.flush();
+
+        assertThat(delegate.saved).hasSize(1);
+        assertThat(delegate.saved.get(0)).contains("\"key999\"");
+        assertThat(persistence.requests()).isEqualTo(1000);
+        assertThat(persistence.writes()).isEqualTo(1);
+    }
+
+    @Test
+    void givenSave_whenWindowElapses_thenWrittenInBackground() throws InterruptedException {
+        RecordingKeysModelPersistence delegate = new RecordingKeysModelPersistence();
+        WriteBehindKeysModelPersistence persistence = new WriteBehindKeysModelPersistence(delegate, 10);
+
+        persistence.save(new KeysModel());
+
+        for (int i = 0; i < 500 && delegate.saved.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+
+        assertThat(delegate.saved).hasSize(1);
+        assertThat(delegate.threads).allMatch(name -> name.equals("JWT Editor key persistence"));
+    }
+
+    @Test
+    void givenNoPendingChanges_whenFlushed_thenNothingWritten() {
+        RecordingKeysModelPersistence delegate = new RecordingKeysModelPersistence();
+        WriteBehindKeysModelPersistence persistence = new WriteBehindKeysModelPersistence(delegate, 60_000);
+
+        persistence.flush();
+
+        assertThat(delegate.saved).isEmpty();
+    }
+
+    @Test
+    void givenPendingChanges_whenClosed_thenWrittenAndLaterSavesWrittenThrough() {
+        RecordingKeysModelPersistence delegate = new RecordingKeysModelPersistence();
+        WriteBehindKeysModelPersistence persistence = new WriteBehindKeysModelPersistence(delegate, 60_000);
+        KeysModel model = new KeysModel();
+
+        persistence.save(model);
+        persistence.close();
+
+        assertThat(delegate.saved).hasSize(1);
+
+        persistence.save(model);
+
+        assertThat(delegate.saved).hasSize(2);
+    }
+
+    private static class RecordingKeysModelPersistence implements KeysModelPersistence {
+        private final List<String> saved = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+
+        @Override
+        public KeysModel loadOrCreateNew() {
+            return new KeysModel();
+        }
+
+        @Override
+        public void save(KeysModel model) {
+            saved.add(model.serialize());
+            threads.add(Thread.currentThread().getName());
+        }
+    }
+}
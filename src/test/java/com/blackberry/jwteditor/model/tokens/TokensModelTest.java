@@ -0,0 +1,70 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.model.tokens;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokensModelTest {
+
+    @Test
+    void givenSnapshot_whenTokensAdded_thenSnapshotUnchanged() {
+        TokensModel tokensModel = new TokensModel();
+        tokensModel.add(token(1));
+        tokensModel.add(token(2));
+
+        List<Token> snapshot = tokensModel.tokens();
+        tokensModel.add(token(3));
+
+        assertThat(snapshot).extracting(Token::id).containsExactly(1, 2);
+        assertThat(tokensModel.size()).isEqualTo(3);
+        assertThat(tokensModel.getToken(2).id()).isEqualTo(3);
+        assertThatThrownBy(() -> snapshot.get(2)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void givenTokensAddedConcurrently_whenSnapshotIterated_thenNoConcurrentModification() throws InterruptedException {
+        TokensModel tokensModel = new TokensModel();
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 100_000; i++) {
+                tokensModel.add(token(i));
+            }
+        });
+
+        writer.start();
+
+        while (writer.isAlive()) {
+            List<Token> snapshot = tokensModel.tokens();
+
+            assertThat(snapshot.stream().filter(token -> token.weakSecret() == null).count()).isEqualTo(snapshot.size());
+        }
+
+        writer.join();
+
+        assertThat(tokensModel.tokens()).hasSize(100_000);
+    }
+
+    private static Token token(int id) {
+        return new Token(id, "host", "/path", "none", "", () -> null);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.operations.weak;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IndexedWordlistTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void givenTextWordlist_whenIndexed_thenSecretsAddressableByIndex() throws IOException {
+        Path path = tempDir.resolve("wordlist.idx");
+        IndexedWordlistWriter.write(new ByteArrayInputStream("secret\n\npässwörd\nsecret1".getBytes(UTF_8)), path);
+
+        IndexedWordlist wordlist = IndexedWordlist.open(path);
+
+        assertThat(wordlist.size()).isEqualTo(4);
+        assertThat(wordlist.maxSecretLength()).isEqualTo("pässwörd".getBytes(UTF_8).length);
+        assertThat(wordlist.secret(3)).isEqualTo("secret1");
+        assertThat(wordlist.secret(1)).isEmpty();
+        assertThat(wordlist.secret(2)).isEqualTo("pässwörd");
+        assertThat(wordlist.secret(0)).isEqualTo("secret");
+    }
+
+    @Test
+    void givenIndexedWordlist_whenSecretRead_thenBytesCopiedIntoBuffer() throws IOException {
+        Path path = tempDir.resolve("wordlist.idx");
+        IndexedWordlistWriter.write(new ByteArrayInputStream("a\nsecret1".getBytes(UTF_8)), path);
+
+        IndexedWordlist wordlist = IndexedWordlist.open(path);
+        byte[] buffer = new byte[wordlist.maxSecretLength()];
+        int length = wordlist.read(1, buffer);
+
+        assertThat(new String(buffer, 0, length, UTF_8)).isEqualTo("secret1");
+    }
+
+    @Test
+    void givenBundledWordlist_thenAllSecretsIndexed() {
+        IndexedWordlist wordlist = IndexedWordlist.bundled();
+
+        assertThat(wordlist.size()).isEqualTo(103979);
+        assertThat(wordlist.secret(56)).isEqualTo("secret1");
+    }
+
+    @Test
+    void givenCachedIndex_whenOpenedAgain_thenIndexReused() throws IOException {
+        byte[] wordlist = "secret\nsecret1".getBytes(UTF_8);
+
+        Path path = IndexedWordlist.cached(wordlist, tempDir).path();
+        FileTime written = Files.getLastModifiedTime(path);
+        Files.setLastModifiedTime(path, FileTime.fromMillis(written.toMillis() - 60_000));
+
+        IndexedWordlist reopened = IndexedWordlist.cached(wordlist, tempDir);
+
+        assertThat(reopened.path()).isEqualTo(path);
+        assertThat(Files.getLastModifiedTime(path).toMillis()).isEqualTo(written.toMillis() - 60_000);
+        assertThat(reopened.secret(1)).isEqualTo("secret1");
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files).containsExactly(path);
+        }
+    }
+
+    @Test
+    void givenDifferentWordlists_whenCached_thenIndexesKeptApart() throws IOException {
+        IndexedWordlist first = IndexedWordlist.cached("secret".getBytes(UTF_8), tempDir);
+        IndexedWordlist second = IndexedWordlist.cached("secret1".getBytes(UTF_8), tempDir);
+
+        assertThat(first.path()).isNotEqualTo(second.path());
+        assertThat(first.secret(0)).isEqualTo("secret");
+        assertThat(second.secret(0)).isEqualTo("secret1");
+    }
+
+    @Test
+    void givenCorruptCachedIndex_whenOpened_thenIndexRewritten() throws IOException {
+        byte[] wordlist = "secret\nsecret1".getBytes(UTF_8);
+        Path path = IndexedWordlist.cached(wordlist, tempDir).path();
+        Files.writeString(path, "secret\nsecret1\n");
+
+        IndexedWordlist reopened = IndexedWordlist.cached(wordlist, tempDir);
+
+        assertThat(reopened.path()).isEqualTo(path);
+        assertThat(reopened.size()).isEqualTo(2);
+        assertThat(reopened.secret(1)).isEqualTo("secret1");
+    }
+
+    @Test
+    void givenTextFile_whenOpenedAsIndexedWordlist_thenExceptionThrown() throws IOException {
+        Path path = tempDir.resolve("wordlist.txt");
+        Files.writeString(path, "secret\nsecret1\n");
+
+        assertThatThrownBy(() -> IndexedWordlist.open(path)).isInstanceOf(IOException.class);
+    }
+}
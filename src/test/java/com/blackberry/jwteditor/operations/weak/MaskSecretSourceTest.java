@@ -0,0 +1,124 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.operations.weak;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MaskSecretSourceTest {
+
+    @Test
+    void givenMask_thenPrefixesEndingInCharsetsEnumeratedShortestFirst() {
+        MaskSecretSource source = new MaskSecretSource(Mask.parse("?d?l"), 0);
+
+        List<String> candidates = readAll(source, 16);
+
+        assertThat(source.size()).isEqualTo(10 + 10 * 26);
+        assertThat(candidates.subList(0, 12)).containsExactly("0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "0a", "0b");
+    }
+
+    @Test
+    void givenMaskWithLeadingLiterals_thenLiteralPrefixesNotEnumerated() {
+        MaskSecretSource source = new MaskSecretSource(Mask.parse("abc?d"), 0);
+
+        List<String> candidates = readAll(source, 4);
+
+        assertThat(source.size()).isEqualTo(10);
+        assertThat(candidates).containsExactly("abc0", "abc1", "abc2", "abc3", "abc4", "abc5", "abc6", "abc7", "abc8", "abc9");
+    }
+
+    @Test
+    void givenMaskWithTrailingLiterals_thenFullMaskEnumeratedAfterCharsetPrefix() {
+        MaskSecretSource source = new MaskSecretSource(Mask.parse("?dxy"), 0);
+
+        List<String> candidates = readAll(source, 4);
+
+        assertThat(source.size()).isEqualTo(20);
+        assertThat(candidates.subList(8, 12)).containsExactly("8", "9", "0xy", "1xy");
+    }
+
+    @Test
+    void givenMaskOfLiterals_thenOnlyFullMaskEnumerated() {
+        MaskSecretSource source = new MaskSecretSource(Mask.parse("secret??"), 0);
+
+        assertThat(readAll(source, 4)).containsExactly("secret?");
+    }
+
+    @Test
+    void givenCharsets_thenKeyspaceSizeIsProduct() {
+        assertThat(Mask.parse("?l?u?d").size()).isEqualTo(26 * 26 * 10);
+        assertThat(Mask.parse("?s").size()).isEqualTo(33);
+        assertThat(Mask.parse("?a").size()).isEqualTo(95);
+        assertThat(Mask.parse("??").size()).isEqualTo(1);
+    }
+
+    @Test
+    void givenStartIndex_thenEnumerationResumesFromIndex() {
+        MaskSecretSource source = new MaskSecretSource(Mask.parse("?d?d"), 105);
+
+        List<String> candidates = readAll(source, 256);
+
+        assertThat(candidates).containsExactly("95", "96", "97", "98", "99");
+        assertThat(source.progress()).isEqualTo(1.0);
+    }
+
+    @Test
+    void givenClaimedChunkNotTested_thenResumePositionIsStartOfChunk() {
+        MaskSecretSource source = new MaskSecretSource(Mask.parse("?d?d"), 0);
+        SecretChunk chunk = new SecretChunk();
+
+        source.fill(chunk, 10);
+        source.markTested(chunk.size());
+        source.fill(chunk, 10);
+
+        assertThat(source.resumePosition()).isEqualTo(10);
+
+        source.markTested(chunk.size());
+
+        assertThat(source.resumePosition()).isEqualTo(20);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "?", "abc?", "?x", "?a?a?a?a?a?a?a?a?a?a?a"})
+    void givenInvalidMask_thenExceptionThrown(String mask) {
+        assertThatThrownBy(() -> Mask.parse(mask)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<String> readAll(MaskSecretSource source, int chunkSize) {
+        List<String> candidates = new ArrayList<>();
+        SecretChunk chunk = new SecretChunk();
+
+        while (source.fill(chunk, chunkSize)) {
+            for (int i = 0; i < chunk.size(); i++) {
+                candidates.add(chunk.secret(i));
+            }
+
+            source.markTested(chunk.size());
+        }
+
+        return candidates;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.operations.weak;
+
+import com.blackberry.jwteditor.model.jose.JWS;
+import com.blackberry.jwteditor.model.jose.JWSFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MutationRulesTest {
+    // {"kid":"key-1","alg":"HS256"}.{"iss":"issuer","aud":["app","api"],"sub":"wiener"}
+    private static final String JWS_WITH_TOKEN_VALUES = "eyJraWQiOiJrZXktMSIsImFsZyI6IkhTMjU2In0.eyJpc3MiOiJpc3N1ZXIiLCJhdWQiOlsiYXBwIiwiYXBpIl0sInN1YiI6IndpZW5lciJ9.c2ln";
+
+    @Test
+    void givenWord_whenCaseRulesApplied_thenDistinctVariantsGenerated() {
+        List<String> candidates = apply(List.of(MutationRules.CaseRule.values()), "Secret");
+
+        assertThat(candidates).containsExactly("Secret", "secret", "SECRET", "sECRET", "53cr37");
+    }
+
+    @Test
+    void givenDigitRule_thenOneAndTwoDigitSuffixesGenerated() {
+        List<String> candidates = apply(List.of(MutationRules.AppendRule.digits()), "secret");
+
+        assertThat(candidates).hasSize(110).contains("secret0", "secret9", "secret00", "secret42", "secret99");
+    }
+
+    @Test
+    void givenToken_thenKeyIdIssuerAndAudienceExtracted() throws Exception {
+        JWS jws = JWSFactory.parse(JWS_WITH_TOKEN_VALUES);
+
+        assertThat(MutationRules.tokenValues(jws)).containsExactly("key-1", "issuer", "app", "api");
+    }
+
+    @Test
+    void givenToken_whenRulesApplied_thenTokenValuesAppended() throws Exception {
+        JWS jws = JWSFactory.parse(JWS_WITH_TOKEN_VALUES);
+
+        List<String> candidates = apply(MutationRules.forToken(jws), "secret");
+
+        assertThat(candidates).contains("secret", "SECRET", "secret1", "secretkey-1", "secretissuer", "secretapp", "secretapi");
+    }
+
+    private static List<String> apply(List<MutationRule> rules, String word) {
+        byte[] wordBytes = word.getBytes(UTF_8);
+        SecretChunk chunk = new SecretChunk();
+
+        for (MutationRule rule : rules) {
+            rule.apply(wordBytes, 0, wordBytes.length, chunk);
+        }
+
+        List<String> candidates = new ArrayList<>();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            candidates.add(chunk.secret(i));
+        }
+
+        return candidates;
+    }
+}
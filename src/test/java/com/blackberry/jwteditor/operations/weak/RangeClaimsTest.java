@@ -0,0 +1,117 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.operations.weak;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RangeClaimsTest {
+
+    @Test
+    void givenRangeClaims_thenRangesAscendingAndBoundedByEnd() {
+        RangeClaims claims = new RangeClaims(5, 12);
+
+        assertThat(claims.claim(4)).isEqualTo(new RangeClaims.Range(5, 9));
+        claims.release(4);
+        assertThat(claims.claim(4)).isEqualTo(new RangeClaims.Range(9, 12));
+        claims.release(3);
+        assertThat(claims.claim(4).isEmpty()).isTrue();
+        assertThat(claims.resumePosition()).isEqualTo(12);
+    }
+
+    @Test
+    void givenRangeInFlight_thenResumePositionIsItsStart() {
+        RangeClaims claims = new RangeClaims(0, 100);
+
+        claims.claim(10);
+
+        assertThat(claims.resumePosition()).isZero();
+    }
+
+    @Test
+    void givenRangePartiallyTested_whenReleased_thenResumePositionIsFirstUntestedIndex() {
+        RangeClaims claims = new RangeClaims(0, 100);
+
+        claims.claim(10);
+        claims.release(3);
+        claims.claim(10);
+        claims.release(10);
+
+        assertThat(claims.resumePosition()).isEqualTo(3);
+    }
+
+    @Test
+    void givenConcurrentWorkers_thenRangesDisjointAndCoverAllIndices() throws Exception {
+        int workers = 8;
+        long end = 100_000;
+        RangeClaims claims = new RangeClaims(0, end);
+        List<RangeClaims.Range> ranges = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (int i = 0; i < workers; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    RangeClaims.Range range;
+
+                    while (!(range = claims.claim(7)).isEmpty()) {
+                        // The untested range is never skipped while it is in flight
+                        assertThat(claims.resumePosition()).isLessThanOrEqualTo(range.start());
+                        ranges.add(range);
+                        claims.release(range.end() - range.start());
+                    }
+
+                    return null;
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ranges.sort(Comparator.comparingLong(RangeClaims.Range::start));
+        long expectedStart = 0;
+
+        for (RangeClaims.Range range : ranges) {
+            assertThat(range.start()).isEqualTo(expectedStart);
+            expectedStart = range.end();
+        }
+
+        assertThat(expectedStart).isEqualTo(end);
+        assertThat(claims.resumePosition()).isEqualTo(end);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.operations.weak;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static com.blackberry.jwteditor.operations.weak.StreamingWordlist.MAX_SECRET_LENGTH;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingWordlistTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void givenTextWordlist_whenRead_thenAllSecretsReturnedInChunks() throws IOException {
+        Path path = tempDir.resolve("wordlist.txt");
+        Files.writeString(path, "one\ntwo\r\n\nfour\nfive");
+
+        List<String> secrets = readAll(path, 2);
+
+        assertThat(secrets).containsExactly("one", "two", "", "four", "five");
+    }
+
+    @Test
+    void givenGzipWordlist_whenRead_thenSecretsDecompressed() throws IOException {
+        Path path = tempDir.resolve("wordlist.txt.gz");
+
+        try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(path))) {
+            outputStream.write("secret\nsecret1\n".getBytes(UTF_8));
+        }
+
+        List<String> secrets = readAll(path, 256);
+
+        assertThat(secrets).containsExactly("secret", "secret1");
+    }
+
+    @Test
+    void givenOverlongLine_whenRead_thenLineSkipped() throws IOException {
+        Path path = tempDir.resolve("wordlist.txt");
+        Files.writeString(path, "before\n" + "a".repeat(MAX_SECRET_LENGTH + 1) + "\nafter\n");
+
+        List<String> secrets = readAll(path, 256);
+
+        assertThat(secrets).containsExactly("before", "after");
+    }
+
+    @Test
+    void givenWordlistFullyRead_thenProgressComplete() throws IOException {
+        Path path = tempDir.resolve("wordlist.txt");
+        Files.writeString(path, "secret\nsecret1\n");
+
+        try (StreamingWordlist wordlist = new StreamingWordlist(path)) {
+            assertThat(wordlist.progress()).isZero();
+
+            SecretChunk chunk = new SecretChunk();
+            while (wordlist.fill(chunk, 256)) {
+                wordlist.markTested(chunk.size());
+            }
+
+            assertThat(wordlist.progress()).isEqualTo(1.0);
+            assertThat(wordlist.tested()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void givenPartiallyTestedChunk_thenResumePositionIsFirstUntestedSecret() throws IOException {
+        Path path = tempDir.resolve("wordlist.txt");
+        Files.writeString(path, "one\ntwo\nthree\nfour\nfive\n");
+
+        try (StreamingWordlist wordlist = new StreamingWordlist(path)) {
+            SecretChunk chunk = new SecretChunk();
+
+            wordlist.fill(chunk, 2);
+            wordlist.markTested(2);
+            wordlist.fill(chunk, 2);
+            wordlist.markTested(1);
+
+            assertThat(wordlist.resumePosition()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void givenStartLine_whenRead_thenEarlierSecretsSkipped() throws IOException {
+        Path path = tempDir.resolve("wordlist.txt");
+        Files.writeString(path, "one\ntwo\nthree\nfour\nfive\n");
+
+        try (StreamingWordlist wordlist = new StreamingWordlist(path, 3)) {
+            SecretChunk chunk = new SecretChunk();
+
+            assertThat(wordlist.fill(chunk, 256)).isTrue();
+            assertThat(chunk.secret(0)).isEqualTo("four");
+            assertThat(chunk.size()).isEqualTo(2);
+
+            wordlist.markTested(chunk.size());
+
+            assertThat(wordlist.resumePosition()).isEqualTo(5);
+        }
+    }
+
+    private static List<String> readAll(Path path, int chunkSize) throws IOException {
+        List<String> secrets = new ArrayList<>();
+        SecretChunk chunk = new SecretChunk();
+
+        try (StreamingWordlist wordlist = new StreamingWordlist(path)) {
+            while (wordlist.fill(chunk, chunkSize)) {
+                assertThat(chunk.size()).isLessThanOrEqualTo(chunkSize);
+
+                for (int i = 0; i < chunk.size(); i++) {
+                    secrets.add(chunk.secret(i));
+                }
+            }
+        }
+
+        return secrets;
+    }
+}
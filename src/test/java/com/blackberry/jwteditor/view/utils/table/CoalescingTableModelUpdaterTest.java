@@ -0,0 +1,164 @@
+/*
+Author : Dolph Flynn
+
+Copyright 2025 Dolph Flynn
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package com.blackberry.jwteditor.view.utils.table;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import javax.swing.event.TableModelEvent;
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static javax.swing.event.TableModelEvent.DELETE;
+import static javax.swing.event.TableModelEvent.INSERT;
+import static javax.swing.event.TableModelEvent.UPDATE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoalescingTableModelUpdaterTest {
+    private final List<String> data = new ArrayList<>();
+    private final List<TableModelEvent> events = new CopyOnWriteArrayList<>();
+    private final ListTableModel tableModel = new ListTableModel();
+
+    CoalescingTableModelUpdaterTest() {
+        tableModel.addTableModelListener(events::add);
+    }
+
+    @Test
+    void givenManyAppendsWithinAFrame_whenPublished_thenSingleInsertEvent() throws Exception {
+        CoalescingTableModelUpdater updater = new CoalescingTableModelUpdater(tableModel, 0);
+
+        onEDT(() -> {
+            for (int i = 0; i < 1000; i++) {
+                String value = "row " + i;
+                updater.rowAppended(() -> data.add(value));
+            }
+
+            assertThat(data).isEmpty();
+        });
+        onEDT(() -> {
+        });
+
+        assertThat(data).hasSize(1000);
+        assertThat(events).hasSize(1);
+        assertEvent(events.get(0), INSERT, 0, 999);
+        onEDT(() -> assertThat(updater.rowCount()).isEqualTo(1000));
+    }
+
+    @Test
+    void givenUpdatesWithinAFrame_whenPublished_thenSingleUpdateEventSpanningRows() throws Exception {
+        data.addAll(List.of("a", "b", "c", "d", "e"));
+        CoalescingTableModelUpdater updater = new CoalescingTableModelUpdater(tableModel, data.size());
+
+        onEDT(() -> {
+            updater.rowUpdated(3);
+            updater.rowUpdated(1);
+            updater.rowUpdated(3);
+        });
+        onEDT(() -> {
+        });
+
+        assertThat(events).hasSize(1);
+        assertEvent(events.get(0), UPDATE, 1, 3);
+    }
+
+    @Test
+    void givenAppendsAndDeletesWithinAFrame_whenPublished_thenAppliedAndFiredInOrder() throws Exception {
+        data.addAll(List.of("a", "b"));
+        CoalescingTableModelUpdater updater = new CoalescingTableModelUpdater(tableModel, data.size());
+
+        onEDT(() -> {
+            updater.rowAppended(() -> data.add("c"));
+            updater.rowAppended(() -> data.add("d"));
+            updater.rowDeleted(() -> {
+                data.remove(0);
+                return 0;
+            });
+            updater.rowDeleted(() -> -1);
+            updater.rowAppended(() -> data.add("e"));
+            updater.rowUpdated(2);
+        });
+        onEDT(() -> {
+        });
+
+        assertThat(data).containsExactly("b", "c", "d", "e");
+        assertThat(events).hasSize(4);
+        assertEvent(events.get(0), INSERT, 2, 3);
+        assertEvent(events.get(1), DELETE, 0, 0);
+        assertEvent(events.get(2), INSERT, 3, 3);
+        assertEvent(events.get(3), UPDATE, 2, 2);
+    }
+
+    @Test
+    void givenChangesOffTheEDT_whenPublished_thenEventsFiredOnTheEDTAtCappedRate() throws Exception {
+        CoalescingTableModelUpdater updater = new CoalescingTableModelUpdater(tableModel, 0, 50);
+        List<Boolean> firedOnEDT = new CopyOnWriteArrayList<>();
+        tableModel.addTableModelListener(e -> firedOnEDT.add(SwingUtilities.isEventDispatchThread()));
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                updater.rowAppended(() -> data.add("row"));
+            }
+        });
+        producer.start();
+        producer.join();
+
+        AtomicInteger rowCount = new AtomicInteger();
+        long deadline = System.currentTimeMillis() + 5000;
+
+        while (System.currentTimeMillis() < deadline && rowCount.get() < 10_000) {
+            Thread.sleep(20);
+            onEDT(() -> rowCount.set(updater.rowCount()));
+        }
+
+        assertThat(rowCount.get()).isEqualTo(10_000);
+        assertThat(data).hasSize(10_000);
+        assertThat(firedOnEDT).isNotEmpty().doesNotContain(false);
+        assertThat(events.size()).isLessThan(100);
+    }
+
+    private static void assertEvent(TableModelEvent event, int type, int firstRow, int lastRow) {
+        assertThat(event.getType()).isEqualTo(type);
+        assertThat(event.getFirstRow()).isEqualTo(firstRow);
+        assertThat(event.getLastRow()).isEqualTo(lastRow);
+    }
+
+    private static void onEDT(Runnable runnable) throws Exception {
+        SwingUtilities.invokeAndWait(runnable);
+    }
+
+    private class ListTableModel extends AbstractTableModel {
+        @Override
+        public int getRowCount() {
+            return data.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return 1;
+        }
+
+        @Override
+        public Object getValueAt(int rowIndex, int columnIndex) {
+            return data.get(rowIndex);
+        }
+    }
+}